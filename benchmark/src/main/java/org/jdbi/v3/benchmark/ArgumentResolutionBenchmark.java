@@ -0,0 +1,96 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.lang.reflect.Type;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.argument.Argument;
+import org.jdbi.v3.core.argument.ArgumentFactory;
+import org.jdbi.v3.core.argument.Arguments;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.testing.JdbiRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Arguments#findFor(Type, Object)} with a number of user factories registered in front of the
+ * built-in ones. {@code exactType} binds with a final type, whose resolution is remembered; {@code objectType}
+ * binds the same value as {@code Object}, which has to ask every factory on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+public class ArgumentResolutionBenchmark {
+    @Param({"0", "5", "20"})
+    public int extraFactories;
+
+    private JdbiRule db;
+    private Arguments arguments;
+
+    @Setup
+    public void setup() throws Throwable {
+        db = JdbiRule.h2();
+        db.before();
+        arguments = db.getHandle().getConfig(Arguments.class);
+        for (int i = 0; i < extraFactories; i++) {
+            arguments.register(new UnrelatedArgumentFactory());
+        }
+    }
+
+    @TearDown
+    public void close() {
+        db.after();
+    }
+
+    @Benchmark
+    public Optional<Argument> exactType() {
+        return arguments.findFor(String.class, "value");
+    }
+
+    @Benchmark
+    public Optional<Argument> objectType() {
+        return arguments.findFor(Object.class, "value");
+    }
+
+    private static final class Unrelated {}
+
+    private static class UnrelatedArgumentFactory implements ArgumentFactory.TypeMatching {
+        @Override
+        public boolean supports(Type type, ConfigRegistry config) {
+            return type == Unrelated.class;
+        }
+
+        @Override
+        public Optional<Argument> build(Type type, Object value, ConfigRegistry config) {
+            return supports(type, config)
+                ? Optional.of((position, statement, ctx) -> statement.setObject(position, null))
+                : Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.benchmark.BenchmarkDatabase.PersonBean;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.statement.PreparedBatch;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.BindBean;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
+import org.jdbi.v3.testing.JdbiRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Inserts {@value #ROWS} rows per invocation, through a {@link PreparedBatch} and through a SQL Object
+ * {@link SqlBatch} method. The inserted rows are removed after each iteration.
+ *
+ * @see EndToEndBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+public class BatchBenchmark {
+    private static final int ROWS = 100;
+
+    @Param({"h2", "sqlite"})
+    public String database;
+
+    private JdbiRule db;
+    private Handle handle;
+    private PersonDao dao;
+    private List<PersonBean> people;
+    private int nextId;
+
+    @Setup
+    public void setup() throws Throwable {
+        db = BenchmarkDatabase.start(database);
+        handle = db.getHandle();
+        handle.execute("create table batch_person (id integer primary key, name varchar(50), email varchar(100), age integer)");
+        dao = handle.attach(PersonDao.class);
+        people = handle.createQuery("select id, name, email, age from person order by id")
+            .mapToBean(PersonBean.class)
+            .list()
+            .subList(0, ROWS);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clear() {
+        handle.execute("delete from batch_person");
+        nextId = 0;
+    }
+
+    @TearDown
+    public void close() {
+        db.after();
+    }
+
+    @Benchmark
+    public int[] preparedBatch() {
+        PreparedBatch batch = handle.prepareBatch("insert into batch_person (id, name, email, age) values (:id, :name, :email, :age)");
+        for (PersonBean person : people) {
+            batch.bind("id", nextId++)
+                .bind("name", person.getName())
+                .bind("email", person.getEmail())
+                .bind("age", person.getAge())
+                .add();
+        }
+        return batch.execute();
+    }
+
+    @Benchmark
+    public int[] preparedBatchBean() {
+        PreparedBatch batch = handle.prepareBatch("insert into batch_person (id, name, email, age) values (:id, :p.name, :p.email, :p.age)");
+        for (PersonBean person : people) {
+            batch.bind("id", nextId++).bindBean("p", person).add();
+        }
+        return batch.execute();
+    }
+
+    @Benchmark
+    public int[] sqlObjectBatch() {
+        List<Integer> ids = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            ids.add(nextId++);
+        }
+        return dao.insert(ids, people);
+    }
+
+    public interface PersonDao {
+        @SqlBatch("insert into batch_person (id, name, email, age) values (:id, :p.name, :p.email, :p.age)")
+        int[] insert(@Bind("id") List<Integer> id, @BindBean("p") List<PersonBean> people);
+    }
+}
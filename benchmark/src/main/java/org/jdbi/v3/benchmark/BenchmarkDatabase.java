@@ -0,0 +1,145 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.beans.ConstructorProperties;
+import java.util.Objects;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.statement.PreparedBatch;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.jdbi.v3.testing.JdbiRule;
+
+/**
+ * The in-memory databases the end-to-end benchmarks run against, with a {@code person} table of
+ * {@value #PEOPLE} rows and the types to map it to.
+ */
+public final class BenchmarkDatabase {
+    static final int PEOPLE = 100;
+
+    private BenchmarkDatabase() {}
+
+    /**
+     * Starts the named database, creates the {@code person} table and fills it.
+     *
+     * @param name {@code h2} or {@code sqlite}
+     * @return the started database; call {@link JdbiRule#after()} to stop it
+     */
+    static JdbiRule start(String name) throws Throwable {
+        JdbiRule db;
+        switch (name) {
+            case "h2":
+                db = JdbiRule.h2();
+                break;
+            case "sqlite":
+                db = JdbiRule.sqlite();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown database " + name);
+        }
+        db.withPlugin(new SqlObjectPlugin());
+        db.before();
+
+        Handle h = db.getHandle();
+        h.execute("create table person (id integer primary key, name varchar(50), email varchar(100), age integer)");
+        PreparedBatch batch = h.prepareBatch("insert into person (id, name, email, age) values (:id, :name, :email, :age)");
+        for (int i = 0; i < PEOPLE; i++) {
+            batch.bind("id", i)
+                .bind("name", "Person " + i)
+                .bind("email", "person" + i + "@example.com")
+                .bind("age", 20 + i % 50)
+                .add();
+        }
+        batch.execute();
+        return db;
+    }
+
+    public static class PersonBean {
+        private int id;
+        private String name;
+        private String email;
+        private int age;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+    }
+
+    public static class PersonValue {
+        final int id;
+        final String name;
+        final String email;
+        final int age;
+
+        @ConstructorProperties({"id", "name", "email", "age"})
+        public PersonValue(int id, String name, String email, int age) {
+            this.id = id;
+            this.name = name;
+            this.email = email;
+            this.age = age;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            PersonValue that = (PersonValue) o;
+            return id == that.id && age == that.age && Objects.equals(name, that.name) && Objects.equals(email, that.email);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, name, email, age);
+        }
+    }
+
+    public static class PersonFields {
+        public int id;
+        public String name;
+        public String email;
+        public int age;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.config.JdbiCaches;
+import org.jdbi.v3.core.statement.DefinedAttributeTemplateEngine;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.TemplateEngine;
+import org.jdbi.v3.testing.JdbiRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Renders short and ~5 KB templates, with and without attributes, through {@link DefinedAttributeTemplateEngine}.
+ * With {@code cached=false} the engine's template cache is disabled, so every render lexes the template again,
+ * as the engine did before it cached templates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+public class DefinedAttributeTemplateEngineBenchmark {
+    private static final int LONG_SQL_LENGTH = 5 * 1024;
+
+    @Param({"true", "false"})
+    public boolean cached;
+
+    @Param({"short", "long"})
+    public String length;
+
+    @Param({"true", "false"})
+    public boolean defines;
+
+    private JdbiRule db;
+    private final TemplateEngine engine = new DefinedAttributeTemplateEngine();
+    private String sql;
+    private StatementContext ctx;
+
+    @Setup
+    public void setup() throws Throwable {
+        db = BenchmarkDatabase.start("h2");
+        Handle handle = db.getHandle();
+        if (!cached) {
+            handle.getConfig(JdbiCaches.class).setMaxSize(DefinedAttributeTemplateEngine.class.getName(), 0);
+        }
+
+        String where = defines ? "where <column> = :value" : "where name = :value";
+        StringBuilder b = new StringBuilder("select id, name from person ").append(where);
+        if ("long".equals(length)) {
+            while (b.length() < LONG_SQL_LENGTH) {
+                b.append(" or (id = :id and email like 'person%@example.com' /* filler */) ").append(where);
+            }
+        }
+        sql = b.toString();
+        ctx = handle.createQuery(sql).define("column", "name").getContext();
+    }
+
+    @TearDown
+    public void close() {
+        db.after();
+    }
+
+    @Benchmark
+    public String render() {
+        return engine.render(sql, ctx);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the end-to-end benchmarks against in-memory H2 and SQLite with the GC profiler attached, so the report
+ * has the allocation rate ({@code gc.alloc.rate.norm}, bytes per operation) next to the throughput.
+ * <p>
+ * Any JMH command line options are passed through, e.g.
+ * {@code java -cp target/benchmarks.jar org.jdbi.v3.benchmark.EndToEndBenchmarks -p database=h2}.
+ */
+public final class EndToEndBenchmarks {
+    private EndToEndBenchmarks() {}
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .include(QueryMappingBenchmark.class.getName())
+            .include(BatchBenchmark.class.getName())
+            .include(SqlObjectBenchmark.class.getName())
+            .include(TemplateEngineBenchmark.class.getName())
+            .addProfiler(GCProfiler.class)
+            .build())
+            .run();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.jdbi.v3.benchmark.BenchmarkDatabase.PersonBean;
+import org.jdbi.v3.benchmark.BenchmarkDatabase.PersonFields;
+import org.jdbi.v3.benchmark.BenchmarkDatabase.PersonValue;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.mapper.reflect.ConstructorMapper;
+import org.jdbi.v3.core.mapper.reflect.FieldMapper;
+import org.jdbi.v3.testing.JdbiRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end query and mapping benchmarks: statement creation, binding, execution and row mapping, both for
+ * point lookups of a single row and for reading the whole table.
+ *
+ * @see EndToEndBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+public class QueryMappingBenchmark {
+    private static final String SELECT_ONE = "select id, name, email, age from person where id = :id";
+    private static final String SELECT_ALL = "select id, name, email, age from person order by id";
+
+    @Param({"h2", "sqlite"})
+    public String database;
+
+    private JdbiRule db;
+    private Handle handle;
+    private int id;
+
+    @Setup
+    public void setup() throws Throwable {
+        db = BenchmarkDatabase.start(database);
+        handle = db.getHandle();
+        handle.registerRowMapper(ConstructorMapper.factory(PersonValue.class));
+        handle.registerRowMapper(FieldMapper.factory(PersonFields.class));
+    }
+
+    @TearDown
+    public void close() {
+        db.after();
+    }
+
+    private int nextId() {
+        id = (id + 1) % BenchmarkDatabase.PEOPLE;
+        return id;
+    }
+
+    @Benchmark
+    public PersonBean mapToBean() {
+        return handle.createQuery(SELECT_ONE).bind("id", nextId()).mapToBean(PersonBean.class).one();
+    }
+
+    @Benchmark
+    public List<PersonBean> mapToBeanList() {
+        return handle.createQuery(SELECT_ALL).mapToBean(PersonBean.class).list();
+    }
+
+    @Benchmark
+    public int mapToInt() {
+        return handle.createQuery("select age from person where id = :id").bind("id", nextId()).mapTo(int.class).one();
+    }
+
+    @Benchmark
+    public Map<String, Object> mapToMap() {
+        return handle.createQuery(SELECT_ONE).bind("id", nextId()).mapToMap().one();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> mapToMapList() {
+        return handle.createQuery(SELECT_ALL).mapToMap().list();
+    }
+
+    @Benchmark
+    public PersonValue constructorMapper() {
+        return handle.createQuery(SELECT_ONE).bind("id", nextId()).mapTo(PersonValue.class).one();
+    }
+
+    @Benchmark
+    public List<PersonValue> constructorMapperList() {
+        return handle.createQuery(SELECT_ALL).mapTo(PersonValue.class).list();
+    }
+
+    @Benchmark
+    public PersonFields fieldMapper() {
+        return handle.createQuery(SELECT_ONE).bind("id", nextId()).mapTo(PersonFields.class).one();
+    }
+
+    @Benchmark
+    public List<PersonFields> fieldMapperList() {
+        return handle.createQuery(SELECT_ALL).mapTo(PersonFields.class).list();
+    }
+
+    @Benchmark
+    public List<List<String>> reduceRows() {
+        return handle.createQuery("select age, name from person order by age, id")
+            .<Integer, List<String>>reduceRows((map, row) ->
+                map.computeIfAbsent(row.getColumn("age", Integer.class), age -> new ArrayList<>())
+                    .add(row.getColumn("name", String.class)))
+            .collect(Collectors.toList());
+    }
+}
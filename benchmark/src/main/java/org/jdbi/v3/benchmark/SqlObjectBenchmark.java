@@ -0,0 +1,107 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.benchmark.BenchmarkDatabase.PersonBean;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.sqlobject.config.RegisterBeanMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.testing.JdbiRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Calls {@link SqlQuery} methods on a SQL Object attached to a handle, to compare with the equivalent fluent
+ * calls in {@link QueryMappingBenchmark}.
+ *
+ * @see EndToEndBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+public class SqlObjectBenchmark {
+    @Param({"h2", "sqlite"})
+    public String database;
+
+    private JdbiRule db;
+    private Handle handle;
+    private PersonDao dao;
+    private int id;
+
+    @Setup
+    public void setup() throws Throwable {
+        db = BenchmarkDatabase.start(database);
+        handle = db.getHandle();
+        dao = handle.attach(PersonDao.class);
+    }
+
+    @TearDown
+    public void close() {
+        db.after();
+    }
+
+    private int nextId() {
+        id = (id + 1) % BenchmarkDatabase.PEOPLE;
+        return id;
+    }
+
+    @Benchmark
+    public PersonBean findById() {
+        return dao.findById(nextId());
+    }
+
+    @Benchmark
+    public List<PersonBean> listAll() {
+        return dao.listAll();
+    }
+
+    @Benchmark
+    public int countOlderThan() {
+        return dao.countOlderThan(nextId() % 50 + 20);
+    }
+
+    @Benchmark
+    public PersonBean attachAndFind() {
+        return handle.attach(PersonDao.class).findById(nextId());
+    }
+
+    @RegisterBeanMapper(PersonBean.class)
+    public interface PersonDao {
+        @SqlQuery("select id, name, email, age from person where id = :id")
+        PersonBean findById(@Bind("id") int id);
+
+        @SqlQuery("select id, name, email, age from person order by id")
+        List<PersonBean> listAll();
+
+        @SqlQuery("select count(*) from person where age > :age")
+        int countOlderThan(@Bind("age") int age);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.config.JdbiCaches;
+import org.jdbi.v3.core.statement.ColonPrefixSqlParser;
+import org.jdbi.v3.core.statement.ParsedSql;
+import org.jdbi.v3.core.statement.SinglePassSqlParser;
+import org.jdbi.v3.core.statement.SqlParser;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.testing.JdbiRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses a statement with an expanded list of {@code ids} named parameters, as {@code bindList} produces, with
+ * parse caching disabled, so every parse is paid in full as it is for statements that are rarely repeated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+public class SqlParserBenchmark {
+    @Param({"antlr", "singlepass"})
+    public String parser;
+
+    @Param({"1", "10", "100"})
+    public int ids;
+
+    private JdbiRule db;
+    private SqlParser sqlParser;
+    private String sql;
+    private StatementContext ctx;
+
+    @Setup
+    public void setup() throws Throwable {
+        db = BenchmarkDatabase.start("h2");
+        Handle handle = db.getHandle();
+        handle.getConfig(JdbiCaches.class).setDefaultMaxSize(0);
+        sqlParser = "antlr".equals(parser) ? new ColonPrefixSqlParser() : SinglePassSqlParser.colonPrefix();
+
+        StringBuilder b = new StringBuilder("select id, name from person where name <> 'x' and id in (");
+        for (int i = 0; i < ids; i++) {
+            b.append(i == 0 ? "" : ", ").append(":__ids_").append(i);
+        }
+        sql = b.append(") /* list */ order by id").toString();
+        ctx = handle.createQuery(sql).getContext();
+    }
+
+    @TearDown
+    public void close() {
+        db.after();
+    }
+
+    @Benchmark
+    public ParsedSql parse() {
+        return sqlParser.parse(sql, ctx);
+    }
+}
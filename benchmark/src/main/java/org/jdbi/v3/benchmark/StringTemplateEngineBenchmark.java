@@ -0,0 +1,88 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.stringtemplate4.StringTemplateEngine;
+import org.jdbi.v3.testing.JdbiRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.stringtemplate.v4.ST;
+import org.stringtemplate.v4.STGroup;
+
+/**
+ * Compares rendering a template from scratch, as {@link StringTemplateEngine} used to on every statement,
+ * against rendering through the engine's compiled template cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+public class StringTemplateEngineBenchmark {
+    private static final String SQL = "select id, name, created_at from <table> "
+        + "where tenant_id = :tenant <if(active)>and active = true<endif> "
+        + "and id in (<ids; separator=\", \">) order by <orderBy>";
+
+    private JdbiRule db;
+    private Handle handle;
+    private StatementContext ctx;
+    private StringTemplateEngine engine;
+
+    @Setup
+    public void setup() throws Throwable {
+        db = JdbiRule.h2();
+        db.before();
+        handle = db.getHandle();
+        ctx = handle.createQuery(SQL)
+            .define("table", "accounts")
+            .define("active", true)
+            .define("ids", Arrays.asList(1, 2, 3, 4, 5))
+            .define("orderBy", "name")
+            .getContext();
+        engine = new StringTemplateEngine();
+        engine.render(SQL, ctx);
+    }
+
+    @TearDown
+    public void close() {
+        db.after();
+    }
+
+    @Benchmark
+    public String coldRender() {
+        ST template = new ST(new STGroup(), SQL);
+        ctx.getAttributes().forEach(template::add);
+        return template.render();
+    }
+
+    @Benchmark
+    public String warmRender() {
+        return engine.render(SQL, ctx);
+    }
+}
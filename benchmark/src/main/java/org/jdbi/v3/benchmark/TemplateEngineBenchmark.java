@@ -0,0 +1,97 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.statement.DefinedAttributeTemplateEngine;
+import org.jdbi.v3.core.statement.TemplateEngine;
+import org.jdbi.v3.freemarker.FreemarkerEngine;
+import org.jdbi.v3.stringtemplate4.StringTemplateEngine;
+import org.jdbi.v3.testing.JdbiRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs the same query through each template engine, so the cost of rendering can be compared against the rest
+ * of the statement's life cycle.
+ *
+ * @see EndToEndBenchmarks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+public class TemplateEngineBenchmark {
+    @Param({"defined", "stringtemplate", "freemarker"})
+    public String engine;
+
+    private JdbiRule db;
+    private Handle handle;
+    private String sql;
+    private int id;
+
+    @Setup
+    public void setup() throws Throwable {
+        db = BenchmarkDatabase.start("h2");
+        handle = db.getHandle();
+        TemplateEngine templateEngine;
+        switch (engine) {
+            case "defined":
+                templateEngine = new DefinedAttributeTemplateEngine();
+                sql = "select <columns> from <table> where id = :id";
+                break;
+            case "stringtemplate":
+                templateEngine = new StringTemplateEngine();
+                sql = "select <columns> from <table> where id = :id";
+                break;
+            case "freemarker":
+                templateEngine = new FreemarkerEngine();
+                sql = "select ${columns} from ${table} where id = :id";
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown engine " + engine);
+        }
+        handle.setTemplateEngine(templateEngine);
+        handle.define("columns", "name");
+    }
+
+    @TearDown
+    public void close() {
+        db.after();
+    }
+
+    @Benchmark
+    public String render() {
+        id = (id + 1) % BenchmarkDatabase.PEOPLE;
+        return handle.createQuery(sql)
+            .define("table", "person")
+            .bind("id", id)
+            .mapTo(String.class)
+            .one();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.transaction.SerializableTransactionRunner;
+import org.jdbi.v3.core.transaction.TransactionRetryPolicy;
+import org.jdbi.v3.testing.JdbiRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Has {@value #CONTENDERS} threads increment a single H2 row with optimistic locking under a
+ * {@link SerializableTransactionRunner}, so a writer that lost the race retries like after a serialization failure.
+ * Compares retrying at once with exponential backoff by the number of increments committed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(TransactionRetryBenchmark.CONTENDERS)
+@Fork(1)
+public class TransactionRetryBenchmark {
+    static final int CONTENDERS = 8;
+
+    @Param({"immediate", "backoff"})
+    public String policy;
+
+    private JdbiRule db;
+    private Jdbi jdbi;
+
+    @Setup
+    public void setup() throws Throwable {
+        db = BenchmarkDatabase.start("h2");
+        jdbi = db.getJdbi();
+        jdbi.useHandle(h -> {
+            h.execute("create table counter (id int primary key, val int, version int)");
+            h.execute("insert into counter values (1, 0, 0)");
+        });
+        jdbi.setTransactionHandler(new SerializableTransactionRunner());
+        jdbi.getConfig(SerializableTransactionRunner.Configuration.class)
+            .setMaxRetries(50)
+            .setRetryPolicy(retryPolicy());
+    }
+
+    private TransactionRetryPolicy retryPolicy() {
+        switch (policy) {
+            case "immediate":
+                return TransactionRetryPolicy.immediately();
+            case "backoff":
+                return TransactionRetryPolicy.exponentialBackoff(Duration.ofMillis(1), Duration.ofMillis(50));
+            default:
+                throw new IllegalArgumentException("Unknown policy " + policy);
+        }
+    }
+
+    @TearDown
+    public void close() {
+        db.after();
+    }
+
+    @Benchmark
+    public boolean increment() {
+        try {
+            jdbi.useTransaction(TransactionRetryBenchmark::increment);
+            return true;
+        } catch (SQLException e) {
+            // out of retries
+            return false;
+        }
+    }
+
+    private static void increment(Handle h) throws SQLException {
+        int version = h.select("select version from counter where id = 1").mapTo(int.class).one();
+        int updated = h.createUpdate("update counter set val = val + 1, version = version + 1 where id = 1 and version = :version")
+            .bind("version", version)
+            .execute();
+        if (updated == 0) {
+            throw new SQLException("concurrent update", "40001");
+        }
+    }
+}
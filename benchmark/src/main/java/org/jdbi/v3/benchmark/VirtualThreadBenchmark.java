@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.Handles;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.testing.JdbiRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs {@value #TASKS} concurrent point lookups against H2, each opening its own handle, with handle context kept
+ * in thread locals or in the handle itself (see {@link Handles#setThreadLocalContext(boolean)}).
+ * <p>
+ * The tasks run on virtual threads when the JDK has them (21 and later), and on a pool of
+ * {@value #FALLBACK_THREADS} platform threads otherwise, e.g.
+ * {@code java -cp target/benchmarks.jar org.openjdk.jmh.Main VirtualThreadBenchmark -jvm /path/to/jdk21/bin/java}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class VirtualThreadBenchmark {
+    static final int TASKS = 10_000;
+    static final int FALLBACK_THREADS = 200;
+
+    @Param({"true", "false"})
+    public boolean threadLocalContext;
+
+    private JdbiRule db;
+    private Jdbi jdbi;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() throws Throwable {
+        db = BenchmarkDatabase.start("h2");
+        jdbi = db.getJdbi();
+        jdbi.getConfig(Handles.class).setThreadLocalContext(threadLocalContext);
+        executor = newExecutor();
+    }
+
+    @TearDown
+    public void close() {
+        executor.shutdownNow();
+        db.after();
+    }
+
+    private static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(FALLBACK_THREADS);
+        }
+    }
+
+    @Benchmark
+    public long query() throws Exception {
+        List<Future<Integer>> futures = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            int id = i % BenchmarkDatabase.PEOPLE;
+            futures.add(executor.submit(() -> jdbi.withHandle(h ->
+                h.createQuery("select age from person where id = :id").bind("id", id).mapTo(int.class).one())));
+        }
+
+        long sum = 0;
+        for (Future<Integer> future : futures) {
+            sum += future.get();
+        }
+        return sum;
+    }
+}
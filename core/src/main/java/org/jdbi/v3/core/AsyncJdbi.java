@@ -0,0 +1,242 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jdbi.v3.core.extension.ExtensionCallback;
+import org.jdbi.v3.core.extension.ExtensionConsumer;
+import org.jdbi.v3.core.transaction.TransactionIsolationLevel;
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * Runs {@link Jdbi} callbacks on a dedicated, bounded pool of threads and returns their results as
+ * {@link CompletionStage}s, so callers do not block on JDBC.
+ * <p>
+ * Size the pool to the connection pool: each running callback holds a connection. Callbacks that find the pool busy
+ * wait in a bounded queue; once the queue is full, new callbacks are shed: their stage completes exceptionally with
+ * a {@link RejectedExecutionException} right away.
+ * <p>
+ * Each callback runs on a pool thread, with a handle opened on that thread, so it never takes part in a handle or
+ * transaction of the calling thread. Callbacks must not let the handle, or results still attached to it like
+ * iterators, escape. Dependent stages that are not {@code *Async} may run on a pool thread, so they should be quick.
+ */
+@Beta
+public final class AsyncJdbi implements AutoCloseable {
+    private final Jdbi jdbi;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejected = new LongAdder();
+
+    private AsyncJdbi(Jdbi jdbi, ThreadPoolExecutor executor) {
+        this.jdbi = jdbi;
+        this.executor = executor;
+    }
+
+    /**
+     * @param jdbi the Jdbi to run callbacks with
+     * @param threads the number of threads, usually the size of the connection pool
+     * @param queueCapacity the number of callbacks that may wait for a thread before new ones are rejected
+     * @return an AsyncJdbi with a pool of its own, shut down by {@link #close()}
+     */
+    public static AsyncJdbi create(Jdbi jdbi, int threads, int queueCapacity) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), new PoolThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        return new AsyncJdbi(jdbi, executor);
+    }
+
+    /**
+     * @return the Jdbi callbacks are run with
+     */
+    public Jdbi getJdbi() {
+        return jdbi;
+    }
+
+    /**
+     * @return the number of callbacks rejected because the queue was full
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * @return the number of callbacks waiting for a thread
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Asynchronous {@link Jdbi#withHandle(HandleCallback)}.
+     *
+     * @param callback A callback which will receive an open Handle
+     * @param <R> type returned by the callback
+     * @param <X> exception type thrown by the callback, if any.
+     * @return a stage completed with the value returned by callback, or with the exception it threw
+     */
+    public <R, X extends Exception> CompletionStage<R> withHandle(HandleCallback<R, X> callback) {
+        return submit(() -> jdbi.withHandle(callback));
+    }
+
+    /**
+     * Asynchronous {@link Jdbi#useHandle(HandleConsumer)}.
+     *
+     * @param callback A callback which will receive an open Handle
+     * @param <X> exception type thrown by the callback, if any.
+     * @return a stage completed when the callback returns, or with the exception it threw
+     */
+    public <X extends Exception> CompletionStage<Void> useHandle(HandleConsumer<X> callback) {
+        return submit(() -> {
+            jdbi.useHandle(callback);
+            return null;
+        });
+    }
+
+    /**
+     * Asynchronous {@link Jdbi#inTransaction(HandleCallback)}.
+     *
+     * @param callback A callback which will receive an open Handle, in a transaction
+     * @param <R> type returned by the callback
+     * @param <X> exception type thrown by the callback, if any.
+     * @return a stage completed with the value returned by callback, or with the exception it threw
+     */
+    public <R, X extends Exception> CompletionStage<R> inTransaction(HandleCallback<R, X> callback) {
+        return submit(() -> jdbi.inTransaction(callback));
+    }
+
+    /**
+     * Asynchronous {@link Jdbi#useTransaction(HandleConsumer)}.
+     *
+     * @param callback A callback which will receive an open Handle, in a transaction
+     * @param <X> exception type thrown by the callback, if any.
+     * @return a stage completed when the callback returns, or with the exception it threw
+     */
+    public <X extends Exception> CompletionStage<Void> useTransaction(HandleConsumer<X> callback) {
+        return submit(() -> {
+            jdbi.useTransaction(callback);
+            return null;
+        });
+    }
+
+    /**
+     * Asynchronous {@link Jdbi#inTransaction(TransactionIsolationLevel, HandleCallback)}.
+     *
+     * @param level the transaction isolation level which will be set on the handle
+     * @param callback A callback which will receive an open Handle, in a transaction
+     * @param <R> type returned by the callback
+     * @param <X> exception type thrown by the callback, if any.
+     * @return a stage completed with the value returned by callback, or with the exception it threw
+     */
+    public <R, X extends Exception> CompletionStage<R> inTransaction(TransactionIsolationLevel level, HandleCallback<R, X> callback) {
+        return submit(() -> jdbi.inTransaction(level, callback));
+    }
+
+    /**
+     * Asynchronous {@link Jdbi#useTransaction(TransactionIsolationLevel, HandleConsumer)}.
+     *
+     * @param level the transaction isolation level which will be set on the handle
+     * @param callback A callback which will receive an open Handle, in a transaction
+     * @param <X> exception type thrown by the callback, if any.
+     * @return a stage completed when the callback returns, or with the exception it threw
+     */
+    public <X extends Exception> CompletionStage<Void> useTransaction(TransactionIsolationLevel level, HandleConsumer<X> callback) {
+        return submit(() -> {
+            jdbi.useTransaction(level, callback);
+            return null;
+        });
+    }
+
+    /**
+     * Asynchronous {@link Jdbi#withExtension(Class, ExtensionCallback)}.
+     *
+     * @param extensionType the type of extension.
+     * @param callback      a callback which will receive the extension.
+     * @param <R>           the return type
+     * @param <E>           the extension type
+     * @param <X>           the exception type optionally thrown by the callback
+     * @return a stage completed with the value returned by callback, or with the exception it threw
+     */
+    public <R, E, X extends Exception> CompletionStage<R> withExtension(Class<E> extensionType, ExtensionCallback<R, E, X> callback) {
+        return submit(() -> jdbi.withExtension(extensionType, callback));
+    }
+
+    /**
+     * Asynchronous {@link Jdbi#useExtension(Class, ExtensionConsumer)}.
+     *
+     * @param extensionType the type of extension
+     * @param callback      a callback which will receive the extension
+     * @param <E>           the extension type
+     * @param <X>           the exception type optionally thrown by the callback
+     * @return a stage completed when the callback returns, or with the exception it threw
+     */
+    public <E, X extends Exception> CompletionStage<Void> useExtension(Class<E> extensionType, ExtensionConsumer<E, X> callback) {
+        return submit(() -> {
+            jdbi.useExtension(extensionType, callback);
+            return null;
+        });
+    }
+
+    /**
+     * Stop accepting callbacks. Callbacks already accepted still run; the stages of callbacks submitted afterwards
+     * complete exceptionally with an {@link IllegalStateException}, and are not counted as rejected.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <R> CompletionStage<R> submit(Callable<R> task) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(task.call());
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            if (executor.isShutdown()) {
+                result.completeExceptionally(new IllegalStateException("AsyncJdbi is closed", e));
+            } else {
+                rejected.increment();
+                result.completeExceptionally(e);
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("PMD.DoNotUseThreads")
+    private static final class PoolThreadFactory implements ThreadFactory {
+        private static final AtomicInteger POOLS = new AtomicInteger();
+
+        private final int pool = POOLS.incrementAndGet();
+        private final AtomicInteger threads = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "jdbi-async-" + pool + "-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.jdbi.v3.core.config.Configurable;
 import org.jdbi.v3.core.extension.ExtensionMethod;
 import org.jdbi.v3.core.extension.Extensions;
 import org.jdbi.v3.core.extension.NoSuchExtensionException;
+import org.jdbi.v3.core.internal.ContextSlot;
 import org.jdbi.v3.core.statement.Batch;
 import org.jdbi.v3.core.statement.Call;
 import org.jdbi.v3.core.statement.PreparedBatch;
@@ -55,8 +56,8 @@ public class Handle implements Closeable, Configurable<Handle> {
     private final Connection connection;
     private final boolean forceEndTransactions;
 
-    private ThreadLocal<ConfigRegistry> config;
-    private ThreadLocal<ExtensionMethod> extensionMethod;
+    private ContextSlot<ConfigRegistry> config;
+    private ContextSlot<ExtensionMethod> extensionMethod;
     private StatementBuilder statementBuilder;
 
     private boolean closed = false;
@@ -70,8 +71,13 @@ public class Handle implements Closeable, Configurable<Handle> {
         this.transactions = transactions;
         this.connection = connection;
 
-        this.config = ThreadLocal.withInitial(() -> config);
-        this.extensionMethod = new ThreadLocal<>();
+        if (config.get(Handles.class).isThreadLocalContext()) {
+            this.config = ContextSlot.threadLocal(config);
+            this.extensionMethod = ContextSlot.threadLocal(null);
+        } else {
+            this.config = ContextSlot.scoped(config);
+            this.extensionMethod = ContextSlot.scoped(null);
+        }
         this.statementBuilder = statementBuilder;
         this.forceEndTransactions = !transactions.isInTransaction(this);
     }
@@ -85,7 +91,7 @@ public class Handle implements Closeable, Configurable<Handle> {
         this.config.set(config);
     }
 
-    void setConfigThreadLocal(ThreadLocal<ConfigRegistry> config) {
+    void setConfigSlot(ContextSlot<ConfigRegistry> config) {
         this.config = config;
     }
 
@@ -550,7 +556,7 @@ public class Handle implements Closeable, Configurable<Handle> {
         this.extensionMethod.set(extensionMethod);
     }
 
-    void setExtensionMethodThreadLocal(ThreadLocal<ExtensionMethod> extensionMethod) {
+    void setExtensionMethodSlot(ContextSlot<ExtensionMethod> extensionMethod) {
         this.extensionMethod = requireNonNull(extensionMethod);
     }
 
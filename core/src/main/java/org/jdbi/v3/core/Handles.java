@@ -14,17 +14,20 @@
 package org.jdbi.v3.core;
 
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * Configuration class for handles.
  */
 public class Handles implements JdbiConfig<Handles> {
     private boolean forceEndTransactions = true;
+    private boolean threadLocalContext = true;
 
     public Handles() {}
 
     private Handles(Handles that) {
         this.forceEndTransactions = that.forceEndTransactions;
+        this.threadLocalContext = that.threadLocalContext;
     }
 
     /**
@@ -54,6 +57,40 @@ public class Handles implements JdbiConfig<Handles> {
         this.forceEndTransactions = forceEndTransactions;
     }
 
+    /**
+     * Returns whether handles keep their context (the configuration and extension method in effect) per thread.
+     * Enabled by default.
+     *
+     * @return whether handle context is kept in thread locals
+     * @see #setThreadLocalContext(boolean)
+     */
+    @Beta
+    public boolean isThreadLocalContext() {
+        return threadLocalContext;
+    }
+
+    /**
+     * Sets whether handles keep their context (the configuration and extension method in effect) per thread.
+     * <p>
+     * When enabled, a handle shared between threads sees a separate context on each thread, and
+     * {@link Jdbi#withHandle(HandleCallback)} and {@link Jdbi#withExtension(Class, org.jdbi.v3.core.extension.ExtensionCallback)}
+     * reuse the handle already open on the calling thread, if any.
+     * <p>
+     * When disabled, each handle and on-demand extension keeps its context in a field of its own and nothing is
+     * stored in thread locals. This suits applications running many short-lived (e.g. virtual) threads, where a
+     * handle is confined to one task at a time. In this mode, a nested call to {@code withHandle} or
+     * {@code withExtension} opens a handle of its own instead of joining the enclosing one, so it does not take
+     * part in the enclosing transaction; pass the handle down explicitly instead.
+     * <p>
+     * This setting is read when a handle is opened, so it must be set on the {@link Jdbi}.
+     *
+     * @param threadLocalContext whether to keep handle context in thread locals
+     */
+    @Beta
+    public void setThreadLocalContext(boolean threadLocalContext) {
+        this.threadLocalContext = threadLocalContext;
+    }
+
     @Override
     public Handles createCopy() {
         return new Handles(this);
@@ -16,11 +16,15 @@ package org.jdbi.v3.core;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.ServiceLoader;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 import javax.sql.DataSource;
 
@@ -32,7 +36,9 @@ import org.jdbi.v3.core.extension.ExtensionFactory;
 import org.jdbi.v3.core.extension.Extensions;
 import org.jdbi.v3.core.extension.HandleSupplier;
 import org.jdbi.v3.core.extension.NoSuchExtensionException;
+import org.jdbi.v3.core.internal.WeakIdentityMap;
 import org.jdbi.v3.core.internal.exceptions.Unchecked;
+import org.jdbi.v3.core.result.internal.PartitionedResults;
 import org.jdbi.v3.core.spi.JdbiPlugin;
 import org.jdbi.v3.core.statement.DefaultStatementBuilder;
 import org.jdbi.v3.core.statement.StatementBuilder;
@@ -40,6 +46,7 @@ import org.jdbi.v3.core.statement.StatementBuilderFactory;
 import org.jdbi.v3.core.transaction.LocalTransactionHandler;
 import org.jdbi.v3.core.transaction.TransactionHandler;
 import org.jdbi.v3.core.transaction.TransactionIsolationLevel;
+import org.jdbi.v3.meta.Beta;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,6 +60,7 @@ import static java.util.concurrent.TimeUnit.NANOSECONDS;
  */
 public class Jdbi implements Configurable<Jdbi> {
     private static final Logger LOG = LoggerFactory.getLogger(Jdbi.class);
+    private static final int PARTITION_BUFFER_SIZE = 1024;
 
     private final ConfigRegistry config = new ConfigRegistry();
 
@@ -61,6 +69,8 @@ public class Jdbi implements Configurable<Jdbi> {
     private final AtomicReference<StatementBuilderFactory> statementBuilderFactory = new AtomicReference<>(DefaultStatementBuilder.FACTORY);
 
     private final CopyOnWriteArrayList<JdbiPlugin> plugins = new CopyOnWriteArrayList<>();
+    private final WeakIdentityMap<Connection, AtomicInteger> initializedConnections = new WeakIdentityMap<>();
+    private volatile boolean customizingNewConnections;
 
     private final ThreadLocal<HandleSupplier> threadHandleSupplier = new ThreadLocal<>();
 
@@ -230,9 +240,20 @@ public class Jdbi implements Configurable<Jdbi> {
     public Jdbi installPlugin(JdbiPlugin plugin) {
         Unchecked.consumer(plugin::customizeJdbi).accept(this);
         plugins.add(plugin);
+        if (customizesNewConnections(plugin)) {
+            customizingNewConnections = true;
+        }
         return this;
     }
 
+    private static boolean customizesNewConnections(JdbiPlugin plugin) {
+        try {
+            return plugin.getClass().getMethod("customizeNewConnection", Handle.class).getDeclaringClass() != JdbiPlugin.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
     /**
      * Allows customization of how prepared statements are created. When a Handle is created
      * against this Jdbi instance the factory will be used to create a StatementBuilder for
@@ -307,6 +328,9 @@ public class Jdbi implements Configurable<Jdbi> {
 
             StatementBuilder cache = statementBuilderFactory.get().createStatementBuilder(conn);
             Handle h = new Handle(config.createCopy(), connectionFactory::closeConnection, transactionhandler.get(), cache, conn);
+            if (customizingNewConnections) {
+                initializeConnection(h);
+            }
             for (JdbiPlugin p : plugins) {
                 h = p.customizeHandle(h);
             }
@@ -317,6 +341,24 @@ public class Jdbi implements Configurable<Jdbi> {
         }
     }
 
+    // plugins installed after a connection was first seen still get to initialize it
+    private void initializeConnection(Handle handle) throws SQLException {
+        AtomicInteger initialized = initializedConnections.computeIfAbsent(physical(handle.getConnection()), c -> new AtomicInteger());
+        for (int i = initialized.get(); i < plugins.size(); i = initialized.incrementAndGet()) {
+            plugins.get(i).customizeNewConnection(handle);
+        }
+    }
+
+    private static Connection physical(Connection conn) {
+        try {
+            Connection unwrapped = conn.unwrap(Connection.class);
+            return unwrapped == null ? conn : unwrapped;
+        } catch (SQLException | RuntimeException e) {
+            // best effort: some drivers and proxies don't support unwrapping
+            return conn;
+        }
+    }
+
     /**
      * A convenience function which manages the lifecycle of a handle and yields it to a callback
      * for use by clients.
@@ -330,6 +372,12 @@ public class Jdbi implements Configurable<Jdbi> {
      * @throws X any exception thrown by the callback
      */
     public <R, X extends Exception> R withHandle(HandleCallback<R, X> callback) throws X {
+        if (!getConfig(Handles.class).isThreadLocalContext()) {
+            try (Handle h = this.open()) {
+                return callback.withHandle(h);
+            }
+        }
+
         if (threadHandleSupplier.get() != null) {
             return callback.withHandle(threadHandleSupplier.get().getHandle());
         }
@@ -454,6 +502,12 @@ public class Jdbi implements Configurable<Jdbi> {
      */
     public <R, E, X extends Exception> R withExtension(Class<E> extensionType, ExtensionCallback<R, E, X> callback)
             throws X {
+        if (!getConfig(Handles.class).isThreadLocalContext()) {
+            try (LazyHandleSupplier handleSupplier = new LazyHandleSupplier(this, config)) {
+                return callWithExtension(extensionType, callback, handleSupplier);
+            }
+        }
+
         if (threadHandleSupplier.get() != null) {
             return callWithExtension(extensionType, callback, threadHandleSupplier.get());
         }
@@ -495,6 +549,38 @@ public class Jdbi implements Configurable<Jdbi> {
         });
     }
 
+    /**
+     * Run a query split into partitions, each on its own handle and executor thread, and merge their results into a
+     * single stream. Up to 1024 results are buffered; partitions wait while the
+     * consumer catches up. The order of results across partitions is not defined.
+     * <p>
+     * The returned stream must be closed, preferably with a {@code try-with-resources} block: closing stops the
+     * partitions that are still running and waits until all of their handles are closed. The stream may be
+     * made {@link Stream#parallel() parallel} to process results on several threads.
+     * <pre>
+     * try (Stream&lt;Row&gt; rows = jdbi.streamPartitions(Arrays.asList(0, 1, 2, 3), executor,
+     *         (handle, partition) -&gt; handle.createQuery("select * from t where mod(id, 4) = :partition")
+     *             .bind("partition", partition)
+     *             .mapTo(Row.class))) {
+     *     rows.forEach(exporter::write);
+     * }
+     * </pre>
+     *
+     * @param partitions the partitions, like partition numbers or key ranges
+     * @param executor   runs the query of each partition; its parallelism bounds the number of open handles. It must
+     *                   run partitions on threads other than the one consuming the stream: an executor that runs a
+     *                   partition in the calling thread, like {@code Runnable::run}, makes the stream throw
+     *                   {@link IllegalStateException}
+     * @param query      creates the query of a partition on the given handle
+     * @param <P>        the partition type
+     * @param <T>        the result element type
+     * @return the merged results of every partition
+     */
+    @Beta
+    public <P, T> Stream<T> streamPartitions(Collection<? extends P> partitions, Executor executor, PartitionQuery<P, T> query) {
+        return PartitionedResults.stream(this, partitions, executor, query, PARTITION_BUFFER_SIZE);
+    }
+
     /**
      * @param extensionType the type of extension. Must be a public interface type.
      * @param <E> the extension type
@@ -14,25 +14,34 @@
 package org.jdbi.v3.core;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.extension.ExtensionMethod;
 import org.jdbi.v3.core.extension.HandleSupplier;
-import org.jdbi.v3.core.internal.JdbiThreadLocals;
+import org.jdbi.v3.core.internal.ContextSlot;
 
 class LazyHandleSupplier implements HandleSupplier, AutoCloseable {
-    private final Object[] lock = new Object[0];
+    // not a monitor: opening the handle blocks on the database, which would pin a virtual thread to its carrier
+    private final Lock lock = new ReentrantLock();
 
     private final Jdbi db;
-    private final ThreadLocal<ConfigRegistry> config;
-    private final ThreadLocal<ExtensionMethod> extensionMethod = new ThreadLocal<>();
+    private final ContextSlot<ConfigRegistry> config;
+    private final ContextSlot<ExtensionMethod> extensionMethod;
 
     private volatile Handle handle;
     private volatile boolean closed = false;
 
     LazyHandleSupplier(Jdbi db, ConfigRegistry config) {
         this.db = db;
-        this.config = ThreadLocal.withInitial(() -> config);
+        if (config.get(Handles.class).isThreadLocalContext()) {
+            this.config = ContextSlot.threadLocal(config);
+            this.extensionMethod = ContextSlot.threadLocal(null);
+        } else {
+            this.config = ContextSlot.scoped(config);
+            this.extensionMethod = ContextSlot.scoped(null);
+        }
     }
 
     @Override
@@ -49,40 +58,46 @@ class LazyHandleSupplier implements HandleSupplier, AutoCloseable {
     }
 
     private void initHandle() {
-        synchronized (lock) {
+        lock.lock();
+        try {
             if (handle == null) {
                 if (closed) {
                     throw new IllegalStateException("Handle is closed");
                 }
 
                 Handle handle = db.open();
-                // share extension method thread local with handle,
+                // share extension method slot with handle,
                 // so extension methods set in other threads are preserved
-                handle.setExtensionMethodThreadLocal(extensionMethod);
-                handle.setConfigThreadLocal(config);
+                handle.setExtensionMethodSlot(extensionMethod);
+                handle.setConfigSlot(config);
 
                 this.handle = handle;
             }
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public <V> V invokeInContext(ExtensionMethod extensionMethod, ConfigRegistry config, Callable<V> task) throws Exception {
-        return JdbiThreadLocals.invokeInContext(this.extensionMethod, extensionMethod,
-                () -> JdbiThreadLocals.invokeInContext(this.config, config, task));
+        return this.extensionMethod.invokeInContext(extensionMethod,
+                () -> this.config.invokeInContext(config, task));
     }
 
     @Override
     public void close() {
-        synchronized (lock) {
+        lock.lock();
+        try {
             closed = true;
-            // once created, the handle owns cleanup of the threadlocals
+            // once created, the handle owns cleanup of the context slots
             if (handle == null) {
                 config.remove();
                 extensionMethod.remove();
             } else {
                 handle.close();
             }
+        } finally {
+            lock.unlock();
         }
     }
 }
@@ -0,0 +1,37 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core;
+
+import org.jdbi.v3.core.result.ResultIterable;
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * Creates the query for one partition of a partitioned query.
+ *
+ * @param <P> the partition type, like a key range or a partition number
+ * @param <T> the result element type
+ * @see Jdbi#streamPartitions(java.util.Collection, java.util.concurrent.Executor, PartitionQuery)
+ */
+@Beta
+@FunctionalInterface
+public interface PartitionQuery<P, T> {
+    /**
+     * Will be invoked with a handle of its own for each partition, on an executor thread.
+     *
+     * @param handle Handle to be used only for the returned query
+     * @param partition the partition to query
+     * @return the results of the partition
+     */
+    ResultIterable<T> query(Handle handle, P partition);
+}
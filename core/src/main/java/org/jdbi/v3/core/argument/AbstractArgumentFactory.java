@@ -46,7 +46,7 @@ import static org.jdbi.v3.core.generic.GenericTypes.getErasedType;
  *
  * @param <T> the type of argument supported by this factory.
  */
-public abstract class AbstractArgumentFactory<T> implements ArgumentFactory {
+public abstract class AbstractArgumentFactory<T> implements ArgumentFactory.TypeMatching {
     private final int sqlType;
     private final ArgumentPredicate isInstance;
 
@@ -81,6 +81,11 @@ public abstract class AbstractArgumentFactory<T> implements ArgumentFactory {
                 : build((T) value, config));
     }
 
+    @Override
+    public final boolean supports(Type type, ConfigRegistry config) {
+        return isInstance.test(type, null);
+    }
+
     /**
      * Produce an argument object for the given value.
      *
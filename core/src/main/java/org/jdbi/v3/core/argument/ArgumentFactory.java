@@ -18,6 +18,7 @@ import java.util.Optional;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * Inspect a value with optional static type information and produce
@@ -40,4 +41,28 @@ public interface ArgumentFactory {
      * @see Arguments#findFor(Type, Object)
      */
     Optional<Argument> build(Type type, Object value, ConfigRegistry config);
+
+    /**
+     * An {@link ArgumentFactory} that decides whether it supports a value from the value's type alone.
+     * {@link Arguments} asks such factories once per type and remembers the answer for every value of that type,
+     * instead of asking every registered factory about every bound value.
+     * <p>
+     * Jdbi only does this for types that fully determine the class of their non-null values, such as primitives,
+     * final classes and enums. Values of any other type are matched by calling
+     * {@link #build(Type, Object, ConfigRegistry)}.
+     */
+    @Beta
+    interface TypeMatching extends ArgumentFactory {
+        /**
+         * Returns whether this factory supports values of the given type. If it does,
+         * {@link #build(Type, Object, ConfigRegistry)} must return an argument for every value of the type, including
+         * {@code null}; if it doesn't, {@code build} must return empty for every value of the type. The answer may
+         * only depend on the type, since it is remembered across statements.
+         *
+         * @param type the type of the values to bind
+         * @param config the config registry, for composition
+         * @return whether this factory supports values of the given type
+         */
+        boolean supports(Type type, ConfigRegistry config);
+    }
 }
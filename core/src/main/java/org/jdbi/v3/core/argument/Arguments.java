@@ -13,11 +13,15 @@
  */
 package org.jdbi.v3.core.argument;
 
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jdbi.v3.core.array.SqlArrayArgumentFactory;
 import org.jdbi.v3.core.config.ConfigRegistry;
@@ -32,9 +36,15 @@ import org.jdbi.v3.meta.Beta;
  * Arguments registry to obtain an Argument instance for each bound parameter
  * (see #findFor(...)).
  * The factories are consulted in reverse order of registration (i.e. last-registered wins).
+ * <p>
+ * For types that fully determine the class of their values (primitives, final classes and arrays of them),
+ * the factories that can apply are resolved once and remembered until another factory is registered; see
+ * {@link ArgumentFactory.TypeMatching}.
  */
 public class Arguments implements JdbiConfig<Arguments> {
-    private final List<QualifiedArgumentFactory> factories = new CopyOnWriteArrayList<>();
+    // copies share the factory list until either side registers a factory
+    private volatile List<QualifiedArgumentFactory> factories = Collections.emptyList();
+    private volatile Map<QualifiedType<?>, List<QualifiedArgumentFactory>> candidates = new ConcurrentHashMap<>();
     private ConfigRegistry registry;
     private Argument untypedNullArgument = new NullArgument(Types.OTHER);
 
@@ -64,7 +74,9 @@ public class Arguments implements JdbiConfig<Arguments> {
     }
 
     private Arguments(Arguments that) {
-        factories.addAll(that.factories);
+        factories = that.factories;
+        // resolutions only depend on the factory list, so they can be shared until either side registers a factory
+        candidates = that.candidates;
         untypedNullArgument = that.untypedNullArgument;
     }
 
@@ -79,7 +91,11 @@ public class Arguments implements JdbiConfig<Arguments> {
     }
 
     private Arguments register(QualifiedArgumentFactory factory) {
-        factories.add(0, factory);
+        List<QualifiedArgumentFactory> updated = new ArrayList<>(factories.size() + 1);
+        updated.add(factory);
+        updated.addAll(factories);
+        factories = Collections.unmodifiableList(updated);
+        candidates = new ConcurrentHashMap<>();
         return this;
     }
 
@@ -103,11 +119,66 @@ public class Arguments implements JdbiConfig<Arguments> {
      */
     @Beta
     public Optional<Argument> findFor(QualifiedType<?> type, Object value) {
+        if (isExact(type.getType())) {
+            // the candidates are every factory that could apply, so there is nothing left to scan
+            for (QualifiedArgumentFactory factory : candidatesFor(type)) {
+                Optional<Argument> argument = factory.build(type, value, registry);
+                if (argument.isPresent()) {
+                    return argument;
+                }
+            }
+            return Optional.empty();
+        }
         return factories.stream()
             .flatMap(factory -> JdbiOptionals.stream(factory.build(type, value, registry)))
             .findFirst();
     }
 
+    /**
+     * Returns the factories that may produce an argument for the given type, in order: every factory that
+     * can't tell from the type alone, up to and including the first {@link QualifiedArgumentFactory.TypeMatching}
+     * that supports the type. Factories that are known not to support the type are left out.
+     */
+    private List<QualifiedArgumentFactory> candidatesFor(QualifiedType<?> type) {
+        Map<QualifiedType<?>, List<QualifiedArgumentFactory>> cache = candidates;
+        // don't use computeIfAbsent: see JDK-8062841
+        List<QualifiedArgumentFactory> result = cache.get(type);
+        if (result == null) {
+            result = resolveCandidates(type);
+            cache.put(type, result);
+        }
+        return result;
+    }
+
+    private List<QualifiedArgumentFactory> resolveCandidates(QualifiedType<?> type) {
+        List<QualifiedArgumentFactory> result = new ArrayList<>();
+        for (QualifiedArgumentFactory factory : factories) {
+            if (factory instanceof QualifiedArgumentFactory.TypeMatching) {
+                if (((QualifiedArgumentFactory.TypeMatching) factory).supports(type, registry)) {
+                    result.add(factory);
+                    break;
+                }
+            } else {
+                result.add(factory);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * A type is exact if every non-null value of that type is an instance of the type's own class,
+     * so the type alone decides which factories can handle the value.
+     */
+    private static boolean isExact(Type type) {
+        if (!(type instanceof Class)) {
+            return false;
+        }
+        Class<?> clazz = (Class<?>) type;
+        return clazz.isArray()
+            ? isExact(clazz.getComponentType())
+            : Modifier.isFinal(clazz.getModifiers());
+    }
+
     /**
      * Configure the {@link Argument} to use when binding a null
      * we don't have a type for.
@@ -25,7 +25,7 @@ import org.jdbi.v3.core.config.ConfigRegistry;
 
 import static org.jdbi.v3.core.generic.GenericTypes.getErasedType;
 
-abstract class DelegatingArgumentFactory implements ArgumentFactory {
+abstract class DelegatingArgumentFactory implements ArgumentFactory.TypeMatching {
     private final Map<Class<?>, Function<?, Argument>> builders = new IdentityHashMap<>();
 
     @Override
@@ -43,6 +43,11 @@ abstract class DelegatingArgumentFactory implements ArgumentFactory {
         return Optional.ofNullable(reusable).map(r -> r.apply(value));
     }
 
+    @Override
+    public boolean supports(Type expectedType, ConfigRegistry config) {
+        return builders.containsKey(getErasedType(expectedType));
+    }
+
     <T> void register(Class<T> klass, int sqlType, StatementBinder<T> binder) {
         builders.put(klass, (T value) -> value == null ? new NullArgument(sqlType) : new LoggableBinderArgument<>(value, binder));
     }
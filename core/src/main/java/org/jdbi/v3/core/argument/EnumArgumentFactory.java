@@ -26,7 +26,7 @@ import org.jdbi.v3.core.internal.EnumStrategies;
 import org.jdbi.v3.core.internal.exceptions.Unchecked;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 
-class EnumArgumentFactory implements QualifiedArgumentFactory {
+class EnumArgumentFactory implements QualifiedArgumentFactory.TypeMatching {
     @Override
     @SuppressWarnings("unchecked")
     public Optional<Argument> build(QualifiedType<?> givenType, Object value, ConfigRegistry config) {
@@ -34,6 +34,11 @@ class EnumArgumentFactory implements QualifiedArgumentFactory {
             .flatMap(clazz -> makeEnumArgument((QualifiedType<Enum>) givenType, (Enum) value, config));
     }
 
+    @Override
+    public boolean supports(QualifiedType<?> givenType, ConfigRegistry config) {
+        return ifEnum(givenType.getType()).isPresent();
+    }
+
     @SuppressWarnings("unchecked")
     static <E extends Enum<E>> Optional<Class<E>> ifEnum(Type type) {
         return Optional.of(type)
@@ -61,6 +61,11 @@ class OptionalArgumentFactory extends DelegatingArgumentFactory {
         }
     }
 
+    @Override
+    public boolean supports(Type expectedType, ConfigRegistry config) {
+        return getErasedType(expectedType) == Optional.class || super.supports(expectedType, config);
+    }
+
     private static Type findOptionalType(Type wrapperType, Object nestedValue) {
         if (getErasedType(wrapperType).equals(Optional.class)) {
             Optional<Type> nestedType = findGenericParameter(wrapperType, Optional.class);
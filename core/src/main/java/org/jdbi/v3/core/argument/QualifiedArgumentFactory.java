@@ -57,9 +57,59 @@ public interface QualifiedArgumentFactory {
      * @param factory the factory to adapt
      */
     static QualifiedArgumentFactory adapt(ArgumentFactory factory) {
+        if (factory instanceof ArgumentFactory.TypeMatching) {
+            return TypeMatching.adapt((ArgumentFactory.TypeMatching) factory);
+        }
         return (type, value, config) -> type.getQualifiers().equals(
                 config.get(Qualifiers.class).findFor(factory.getClass()))
             ? factory.build(type.getType(), value, config)
             : Optional.empty();
     }
+
+    /**
+     * A {@link QualifiedArgumentFactory} that decides whether it supports a value from the value's qualified type
+     * alone.
+     *
+     * @see ArgumentFactory.TypeMatching
+     */
+    @Beta
+    interface TypeMatching extends QualifiedArgumentFactory {
+        /**
+         * Returns whether this factory supports values of the given qualified type. If it does,
+         * {@link #build(QualifiedType, Object, ConfigRegistry)} must return an argument for every value of the type,
+         * including {@code null}; if it doesn't, {@code build} must return empty for every value of the type.
+         * The answer may only depend on the type, since it is remembered across statements.
+         *
+         * @param type the qualified type of the values to bind
+         * @param config the config registry, for composition
+         * @return whether this factory supports values of the given type
+         */
+        boolean supports(QualifiedType<?> type, ConfigRegistry config);
+
+        /**
+         * Adapts an {@link ArgumentFactory.TypeMatching} into a QualifiedArgumentFactory.TypeMatching. The returned
+         * factory only matches qualified types with zero qualifiers.
+         *
+         * @param factory the factory to adapt
+         */
+        static TypeMatching adapt(ArgumentFactory.TypeMatching factory) {
+            return new TypeMatching() {
+                @Override
+                public boolean supports(QualifiedType<?> type, ConfigRegistry config) {
+                    return matches(type, config) && factory.supports(type.getType(), config);
+                }
+
+                @Override
+                public Optional<Argument> build(QualifiedType<?> type, Object value, ConfigRegistry config) {
+                    return matches(type, config)
+                        ? factory.build(type.getType(), value, config)
+                        : Optional.empty();
+                }
+
+                private boolean matches(QualifiedType<?> type, ConfigRegistry config) {
+                    return type.getQualifiers().equals(config.get(Qualifiers.class).findFor(factory.getClass()));
+                }
+            };
+        }
+    }
 }
@@ -25,7 +25,7 @@ import org.jdbi.v3.meta.Beta;
  * Factory that uses {@link java.sql.PreparedStatement#setObject(int, Object, int)} to bind values.
  */
 @Beta
-public class SetObjectArgumentFactory implements ArgumentFactory {
+public class SetObjectArgumentFactory implements ArgumentFactory.TypeMatching {
     private final Map<Class<?>, Integer> supportedTypes;
 
     protected SetObjectArgumentFactory(Map<Class<?>, Integer> types) {
@@ -48,4 +48,9 @@ public class SetObjectArgumentFactory implements ArgumentFactory {
             .map(supportedTypes::get)
             .map(sqlType -> ObjectArgument.of(value, sqlType));
     }
+
+    @Override
+    public boolean supports(Type type, ConfigRegistry config) {
+        return supportedTypes.containsKey(type);
+    }
 }
@@ -73,6 +73,23 @@ public abstract class ObjectPropertyNamedArgumentFinder implements NamedArgument
         return Optional.empty();
     }
 
+    /**
+     * Whether the given finder finds exactly the names this finder does: it is of the same type, uses the same
+     * prefix, and binds an object of the same class.
+     *
+     * @param other the finder to compare to
+     * @return true if the given finder finds the same names as this one
+     */
+    public boolean findsSameNamesAs(NamedArgumentFinder other) {
+        if (other == null || other.getClass() != getClass()) {
+            return false;
+        }
+        ObjectPropertyNamedArgumentFinder that = (ObjectPropertyNamedArgumentFinder) other;
+        return prefix.equals(that.prefix)
+            && obj != null && that.obj != null
+            && obj.getClass() == that.obj.getClass();
+    }
+
     private NamedArgumentFinder getValueNested(TypedValue typedValue, String parentName, String childName) {
         if (Objects.nonNull(typedValue.value)) {
             return getNestedArgumentFinder(typedValue.value);
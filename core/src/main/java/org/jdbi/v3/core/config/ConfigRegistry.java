@@ -23,7 +23,6 @@ import java.util.concurrent.ConcurrentHashMap;
  * @see Configurable
  */
 public class ConfigRegistry {
-    private final Object createLock = new Object();
     private final Map<Class<? extends JdbiConfig<?>>, JdbiConfig<?>> configs = new ConcurrentHashMap<>();
 
     /**
@@ -55,15 +54,14 @@ public class ConfigRegistry {
         if (lookup != null) {
             return configClass.cast(lookup);
         }
-        synchronized (createLock) {
-            try {
-                C config = configClass.getDeclaredConstructor().newInstance();
-                config.setRegistry(this);
-                return Optional.ofNullable(configClass.cast(configs.putIfAbsent(configClass, config))).orElse(config);
-            } catch (ReflectiveOperationException e) {
-                throw new IllegalStateException("Unable to instantiate config class " + configClass
-                    + ". Is there a public no-arg constructor?", e);
-            }
+        // racing threads may each create an instance, but only the first one is kept
+        try {
+            C config = configClass.getDeclaredConstructor().newInstance();
+            config.setRegistry(this);
+            return Optional.ofNullable(configClass.cast(configs.putIfAbsent(configClass, config))).orElse(config);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to instantiate config class " + configClass
+                + ". Is there a public no-arg constructor?", e);
         }
     }
 
@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.config;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * A snapshot of the usage of a {@link JdbiCache}.
+ *
+ * @see JdbiCaches#getStats()
+ */
+@Beta
+@SuppressWarnings("PMD.DataClass")
+public final class JdbiCacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long size;
+
+    JdbiCacheStats(long hitCount, long missCount, long evictionCount, long size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    /**
+     * @return the number of lookups that found a cached value
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of lookups that had to compute the value
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the number of entries evicted to keep the cache within its size limit
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return the number of entries in the cache
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return the fraction of lookups that found a cached value, or {@code 1.0} if there were no lookups
+     */
+    public double getHitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    JdbiCacheStats plus(JdbiCacheStats other) {
+        return new JdbiCacheStats(
+            hitCount + other.hitCount,
+            missCount + other.missCount,
+            evictionCount + other.evictionCount,
+            size + other.size);
+    }
+
+    @Override
+    public String toString() {
+        return "JdbiCacheStats{hits=" + hitCount + ", misses=" + missCount
+            + ", evictions=" + evictionCount + ", size=" + size + "}";
+    }
+}
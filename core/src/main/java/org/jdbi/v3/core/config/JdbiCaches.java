@@ -13,8 +13,17 @@
  */
 package org.jdbi.v3.core.config;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
 import org.jdbi.v3.meta.Beta;
@@ -24,13 +33,23 @@ import org.jdbi.v3.meta.Beta;
  * For example, bean property accessors, or normalized enum constants.
  * Note that unlike most JdbiConfig types, this cache is Jdbi level and shared,
  * so it should not hold data that needs to respect reconfiguration.
- * Additionally, currently there is no expiration policy, as nearly all keys are
- * references to JVM constant pool entries.
- * <b>This makes it unsuitable as a general-purpose shared cache.</b>
+ * <p>
+ * Each cache holds at most {@link #getDefaultMaxSize()} entries unless it was given a
+ * limit of its own with {@link #setMaxSize(String, int)}. When a cache grows past its limit,
+ * the least recently used entries are evicted. Caches declared with a name report their
+ * usage through {@link #getStats()}. Since this config is shared, limits apply to the whole
+ * {@code Jdbi}, and should be set before it is used.
  */
 @Beta
 public final class JdbiCaches implements JdbiConfig<JdbiCaches> {
-    private final Map<JdbiCache<?, ?>, Map<Object, Object>> caches = new ConcurrentHashMap<>();
+    /**
+     * The default maximum number of entries of each cache.
+     */
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final Map<JdbiCache<?, ?>, BoundedCache> caches = new ConcurrentHashMap<>();
+    private final Map<String, Integer> maxSizes = new ConcurrentHashMap<>();
+    private volatile int defaultMaxSize = DEFAULT_MAX_SIZE;
 
     /**
      * Does not actually create a copy!!
@@ -45,14 +64,207 @@ public final class JdbiCaches implements JdbiConfig<JdbiCaches> {
     }
 
     public static <K, V> JdbiCache<K, V> declare(Function<K, ?> keyNormalizer, Function<K, V> computer) {
+        return declare(null, keyNormalizer, computer);
+    }
+
+    /**
+     * Declare a named cache. The name lets the cache be sized with {@link #setMaxSize(String, int)}
+     * and observed through {@link #getStats()}; by convention it is the name of the declaring class.
+     *
+     * @param name the name of the cache
+     * @param computer computes the cached value for a key
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the cache
+     */
+    public static <K, V> JdbiCache<K, V> declare(String name, Function<K, V> computer) {
+        return declare(name, Function.identity(), computer);
+    }
+
+    /**
+     * Declare a named cache whose keys are normalized before lookup.
+     *
+     * @param name the name of the cache
+     * @param keyNormalizer maps a key to the object the cache is keyed by
+     * @param computer computes the cached value for a key
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the cache
+     * @see #declare(String, Function)
+     */
+    public static <K, V> JdbiCache<K, V> declare(String name, Function<K, ?> keyNormalizer, Function<K, V> computer) {
         return new JdbiCache<K, V>() {
             @SuppressWarnings("unchecked")
             @Override
             public V get(K key, ConfigRegistry config) {
-                return (V) config.get(JdbiCaches.class).caches
-                        .computeIfAbsent(this, x -> new ConcurrentHashMap<>())
-                        .computeIfAbsent(keyNormalizer.apply(key), x -> computer.apply(key));
+                return (V) config.get(JdbiCaches.class).cacheFor(this, name)
+                        .get(keyNormalizer.apply(key), k -> computer.apply(key));
             }
         };
     }
+
+    /**
+     * @return the maximum number of entries of caches that don't have a limit of their own
+     */
+    public int getDefaultMaxSize() {
+        return defaultMaxSize;
+    }
+
+    /**
+     * Sets the maximum number of entries of caches that don't have a limit of their own.
+     *
+     * @param maxSize the maximum number of entries, {@code 0} to disable caching
+     * @return this
+     */
+    public JdbiCaches setDefaultMaxSize(int maxSize) {
+        this.defaultMaxSize = checkMaxSize(maxSize);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of entries of the caches declared with the given name.
+     *
+     * @param cacheName the name the caches were declared with
+     * @param maxSize the maximum number of entries, {@code 0} to disable caching
+     * @return this
+     */
+    public JdbiCaches setMaxSize(String cacheName, int maxSize) {
+        maxSizes.put(cacheName, checkMaxSize(maxSize));
+        return this;
+    }
+
+    /**
+     * @return a snapshot of the statistics of every named cache that has been used, by cache name
+     */
+    public Map<String, JdbiCacheStats> getStats() {
+        Map<String, JdbiCacheStats> stats = new HashMap<>();
+        caches.values().stream()
+            .filter(cache -> cache.name != null)
+            .forEach(cache -> stats.merge(cache.name, cache.stats(), JdbiCacheStats::plus));
+        return Collections.unmodifiableMap(stats);
+    }
+
+    private BoundedCache cacheFor(JdbiCache<?, ?> cache, String name) {
+        BoundedCache bounded = caches.get(cache);
+        if (bounded == null) {
+            bounded = caches.computeIfAbsent(cache, c -> new BoundedCache(name));
+        }
+        return bounded;
+    }
+
+    private int maxSizeOf(String name) {
+        Integer maxSize = name == null ? null : maxSizes.get(name);
+        return maxSize == null ? defaultMaxSize : maxSize;
+    }
+
+    private static int checkMaxSize(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("cache size must not be negative, was " + maxSize);
+        }
+        return maxSize;
+    }
+
+    /**
+     * A concurrent map with approximate LRU eviction. Hits only record the time of access,
+     * so reads never lock; once the map outgrows its limit, the least recently used entries
+     * are evicted down to nine tenths of it in one go.
+     */
+    private final class BoundedCache {
+        private final String name;
+        private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+        private final AtomicLong clock = new AtomicLong();
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final Lock evictionLock = new ReentrantLock();
+
+        BoundedCache(String name) {
+            this.name = name;
+        }
+
+        Object get(Object key, Function<Object, Object> computer) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                hits.increment();
+                // the clock only ticks on inserts, so hot entries don't contend on it
+                long now = clock.get();
+                if (entry.lastAccess != now) {
+                    entry.lastAccess = now;
+                }
+                return entry.value;
+            }
+
+            misses.increment();
+            // computed outside of the map, so values may compute other cached values
+            Object value = computer.apply(key);
+            int maxSize = maxSizeOf(name);
+            if (maxSize == 0) {
+                return value;
+            }
+
+            Entry existing = entries.putIfAbsent(key, new Entry(value, clock.incrementAndGet()));
+            if (existing != null) {
+                return existing.value;
+            }
+            if (entries.size() > maxSize) {
+                evict(maxSize);
+            }
+            return value;
+        }
+
+        private void evict(int maxSize) {
+            // one evicting thread is enough; the others carry on rather than park behind it
+            if (!evictionLock.tryLock()) {
+                return;
+            }
+            try {
+                int excess = entries.size() - maxSize;
+                if (excess <= 0) {
+                    return;
+                }
+
+                // hits keep rewriting lastAccess, so sort a snapshot of it rather than the live entries
+                List<Map.Entry<Object, Entry>> candidates = new ArrayList<>(entries.entrySet());
+                long[] lastAccess = new long[candidates.size()];
+                for (int i = 0; i < lastAccess.length; i++) {
+                    lastAccess[i] = candidates.get(i).getValue().lastAccess;
+                }
+                int toEvict = Math.min(lastAccess.length, excess + maxSize / 10);
+                if (toEvict <= 0) {
+                    return;
+                }
+                long[] sorted = lastAccess.clone();
+                Arrays.sort(sorted);
+                long threshold = sorted[toEvict - 1];
+
+                // entries older than the threshold first, then as many as needed of those accessed at it
+                for (int pass = 0; pass < 2; pass++) {
+                    long limit = pass == 0 ? threshold - 1 : threshold;
+                    for (int i = 0; i < lastAccess.length && toEvict > 0; i++) {
+                        Map.Entry<Object, Entry> candidate = candidates.get(i);
+                        if (lastAccess[i] <= limit && entries.remove(candidate.getKey(), candidate.getValue())) {
+                            evictions.increment();
+                            toEvict--;
+                        }
+                    }
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+
+        JdbiCacheStats stats() {
+            return new JdbiCacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+        }
+    }
+
+    private static final class Entry {
+        final Object value;
+        volatile long lastAccess;
+
+        Entry(Object value, long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+    }
 }
@@ -0,0 +1,127 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.internal;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Holds one piece of context, such as the configuration or extension method of a handle.
+ * <p>
+ * A {@link #threadLocal(Object) thread local} slot keeps a value per thread, so a handle shared between threads
+ * sees a different context on each. A {@link #scoped(Object) scoped} slot keeps a single value for its owner,
+ * which suits handles that are confined to one task at a time, and costs no thread local storage in any of the
+ * threads that touch it.
+ * <p>
+ * Removing a value resets the slot to its initial value.
+ *
+ * @param <T> the type of the context
+ */
+public abstract class ContextSlot<T> {
+    ContextSlot() {}
+
+    /**
+     * @param initial the value every thread starts with
+     * @param <T> the type of the context
+     * @return a slot that keeps one value per thread
+     */
+    public static <T> ContextSlot<T> threadLocal(T initial) {
+        return new ThreadLocalSlot<>(initial);
+    }
+
+    /**
+     * @param initial the value the slot starts with
+     * @param <T> the type of the context
+     * @return a slot that keeps one value for all threads
+     */
+    public static <T> ContextSlot<T> scoped(T initial) {
+        return new ScopedSlot<>(initial);
+    }
+
+    public abstract T get();
+
+    public abstract void set(T value);
+
+    public abstract void remove();
+
+    /**
+     * Runs a task with this slot set to the given context, restoring the previous context afterwards.
+     *
+     * @param context the context to run the task in
+     * @param task the task to run
+     * @param <V> the type returned by the task
+     * @return the value returned by the task
+     * @throws Exception if thrown by the task
+     */
+    public <V> V invokeInContext(T context, Callable<V> task) throws Exception {
+        T oldContext = get();
+        try {
+            set(context);
+            return task.call();
+        } finally {
+            if (oldContext == null) {
+                remove();
+            } else {
+                set(oldContext);
+            }
+        }
+    }
+
+    private static final class ThreadLocalSlot<T> extends ContextSlot<T> {
+        private final ThreadLocal<T> value;
+
+        ThreadLocalSlot(T initial) {
+            this.value = initial == null ? new ThreadLocal<>() : ThreadLocal.withInitial(() -> initial);
+        }
+
+        @Override
+        public T get() {
+            return value.get();
+        }
+
+        @Override
+        public void set(T value) {
+            this.value.set(value);
+        }
+
+        @Override
+        public void remove() {
+            value.remove();
+        }
+    }
+
+    private static final class ScopedSlot<T> extends ContextSlot<T> {
+        private final T initial;
+        private volatile T value;
+
+        ScopedSlot(T initial) {
+            this.initial = initial;
+            this.value = initial;
+        }
+
+        @Override
+        public T get() {
+            return value;
+        }
+
+        @Override
+        public void set(T value) {
+            this.value = value;
+        }
+
+        @Override
+        public void remove() {
+            value = initial;
+        }
+    }
+}
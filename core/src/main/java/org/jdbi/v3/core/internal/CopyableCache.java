@@ -0,0 +1,75 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.internal;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A lookup cache for config objects, which are copied far more often than they are changed. A copy takes constant
+ * time: the original and the copy share the entries cached so far, and each keeps the entries it caches afterwards
+ * to itself, so a copy is a snapshot in both directions.
+ */
+public final class CopyableCache<K, V> {
+    // never modified once published, so any number of copies can read it
+    private volatile Map<K, V> shared;
+    // entries cached since the last copy; created on the first put
+    private volatile Map<K, V> local;
+
+    public CopyableCache() {
+        this(Collections.emptyMap());
+    }
+
+    private CopyableCache(Map<K, V> shared) {
+        this.shared = shared;
+    }
+
+    public V get(K key) {
+        Map<K, V> own = local;
+        if (own != null) {
+            V value = own.get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        return shared.get(key);
+    }
+
+    public void put(K key, V value) {
+        Map<K, V> own = local;
+        if (own == null) {
+            own = new ConcurrentHashMap<>();
+            local = own;
+        }
+        own.put(key, value);
+    }
+
+    /**
+     * @return a cache with the same entries as this one, which shares them instead of copying them
+     */
+    public CopyableCache<K, V> copy() {
+        Map<K, V> own = local;
+        if (own != null && !own.isEmpty()) {
+            // fold what this cache learned since the last copy into the shared entries; only happens when it
+            // learned something, so warmed up caches copy in constant time
+            Map<K, V> merged = new HashMap<>(shared);
+            merged.putAll(own);
+            shared = merged;
+            local = null;
+        }
+        return new CopyableCache<>(shared);
+    }
+}
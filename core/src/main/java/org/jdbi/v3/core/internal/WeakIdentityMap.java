@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.internal;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A concurrent map that compares its keys by identity and holds them weakly, so entries go away once their key is
+ * garbage collected. Meant for state that belongs to objects jdbi does not own, like pooled connections.
+ */
+public final class WeakIdentityMap<K, V> {
+    private final ConcurrentMap<IdentityKey<K>, V> map = new ConcurrentHashMap<>();
+    private final ReferenceQueue<K> queue = new ReferenceQueue<>();
+
+    public V get(K key) {
+        expunge();
+        return map.get(new IdentityKey<>(key, null));
+    }
+
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> function) {
+        // get then put instead of computeIfAbsent, see JDK-8062841
+        V value = get(key);
+        if (value == null) {
+            V computed = function.apply(key);
+            value = map.putIfAbsent(new IdentityKey<>(key, queue), computed);
+            if (value == null) {
+                value = computed;
+            }
+        }
+        return value;
+    }
+
+    public int size() {
+        expunge();
+        return map.size();
+    }
+
+    private void expunge() {
+        for (Reference<? extends K> ref = queue.poll(); ref != null; ref = queue.poll()) {
+            map.remove(ref);
+        }
+    }
+
+    private static final class IdentityKey<K> extends WeakReference<K> {
+        private final int hash;
+
+        IdentityKey(K referent, ReferenceQueue<K> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        @SuppressWarnings("PMD.CompareObjectsWithEquals")
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof IdentityKey)) {
+                return false;
+            }
+            Object referent = get();
+            return referent != null && referent == ((IdentityKey<?>) obj).get();
+        }
+    }
+}
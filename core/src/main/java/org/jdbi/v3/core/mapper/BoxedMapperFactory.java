@@ -45,10 +45,10 @@ class BoxedMapperFactory implements ColumnMapperFactory {
         mappers.put(Byte.class, new GetterMapper<>(ResultSet::getByte));
         mappers.put(Character.class, new GetterMapper<>(BoxedMapperFactory::getCharacter));
         mappers.put(Short.class, new GetterMapper<>(ResultSet::getShort));
-        mappers.put(Integer.class, new GetterMapper<>(ResultSet::getInt));
-        mappers.put(Long.class, new GetterMapper<>(ResultSet::getLong));
+        mappers.put(Integer.class, (IntColumnMapper) (r, i, ctx) -> r.getInt(i));
+        mappers.put(Long.class, (LongColumnMapper) (r, i, ctx) -> r.getLong(i));
         mappers.put(Float.class, new GetterMapper<>(ResultSet::getFloat));
-        mappers.put(Double.class, new GetterMapper<>(ResultSet::getDouble));
+        mappers.put(Double.class, (DoubleColumnMapper) (r, i, ctx) -> r.getDouble(i));
     }
 
     @Override
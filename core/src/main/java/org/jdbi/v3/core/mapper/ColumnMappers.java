@@ -14,16 +14,18 @@
 package org.jdbi.v3.core.mapper;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.jdbi.v3.core.array.SqlArrayMapperFactory;
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.enums.internal.EnumMapperFactory;
 import org.jdbi.v3.core.generic.GenericType;
+import org.jdbi.v3.core.internal.CopyableCache;
 import org.jdbi.v3.core.internal.JdbiOptionals;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.meta.Beta;
@@ -32,23 +34,33 @@ import org.jdbi.v3.meta.Beta;
  * Configuration registry for {@link ColumnMapperFactory} instances.
  */
 public class ColumnMappers implements JdbiConfig<ColumnMappers> {
-    private final List<QualifiedColumnMapperFactory> factories = new CopyOnWriteArrayList<>();
-    private final ConcurrentHashMap<QualifiedType<?>, ColumnMapper<?>> cache = new ConcurrentHashMap<>();
+    // the built-in factories are stateless, so every instance shares them and the mappers they build
+    private static final List<QualifiedColumnMapperFactory> BUILT_IN_FACTORIES = builtInFactories();
+
+    // copies share the factory list and cache until either side registers a factory
+    private volatile List<QualifiedColumnMapperFactory> factories;
+    private volatile CopyableCache<QualifiedType<?>, ColumnMapper<?>> cache = new CopyableCache<>();
     private boolean coalesceNullPrimitivesToDefaults = true;
     private ConfigRegistry registry;
 
     public ColumnMappers() {
+        factories = BUILT_IN_FACTORIES;
+    }
+
+    private static List<QualifiedColumnMapperFactory> builtInFactories() {
         // TODO move to BuiltInSupportPlugin
-        register(new SqlArrayMapperFactory());
-        register(new JavaTimeMapperFactory());
-        register(new SqlTimeMapperFactory());
-        register(new InternetMapperFactory());
-        register(new EssentialsMapperFactory());
-        register(new BoxedMapperFactory());
-        register(new PrimitiveMapperFactory());
-        register(new OptionalMapperFactory());
-        register(new EnumMapperFactory());
-        register(new NVarcharMapper());
+        // last registered first, as register() would order them
+        return Collections.unmodifiableList(Arrays.asList(
+            new InferredColumnMapperFactory(new NVarcharMapper()),
+            new EnumMapperFactory(),
+            QualifiedColumnMapperFactory.adapt(new OptionalMapperFactory()),
+            QualifiedColumnMapperFactory.adapt(new PrimitiveMapperFactory()),
+            QualifiedColumnMapperFactory.adapt(new BoxedMapperFactory()),
+            QualifiedColumnMapperFactory.adapt(new EssentialsMapperFactory()),
+            QualifiedColumnMapperFactory.adapt(new InternetMapperFactory()),
+            QualifiedColumnMapperFactory.adapt(new SqlTimeMapperFactory()),
+            QualifiedColumnMapperFactory.adapt(new JavaTimeMapperFactory()),
+            QualifiedColumnMapperFactory.adapt(new SqlArrayMapperFactory())));
     }
 
     @Override
@@ -57,8 +69,8 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
     }
 
     private ColumnMappers(ColumnMappers that) {
-        factories.addAll(that.factories);
-        cache.putAll(that.cache);
+        factories = that.factories;
+        cache = that.cache.copy();
         coalesceNullPrimitivesToDefaults = that.coalesceNullPrimitivesToDefaults;
     }
 
@@ -128,8 +140,11 @@ public class ColumnMappers implements JdbiConfig<ColumnMappers> {
     }
 
     private ColumnMappers register(QualifiedColumnMapperFactory factory) {
-        factories.add(0, factory);
-        cache.clear();
+        List<QualifiedColumnMapperFactory> updated = new ArrayList<>(factories.size() + 1);
+        updated.add(factory);
+        updated.addAll(factories);
+        factories = Collections.unmodifiableList(updated);
+        cache = new CopyableCache<>();
         return this;
     }
 
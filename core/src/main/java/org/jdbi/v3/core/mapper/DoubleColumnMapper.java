@@ -0,0 +1,52 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * A column mapper for {@code double} values that can also hand them over unboxed. Reflective mappers use
+ * {@link #mapDouble(ResultSet, int, StatementContext)} to copy the column straight into a {@code double} property,
+ * field or setter parameter.
+ * <p>
+ * By default, an SQL NULL column maps to {@code null}.
+ */
+@Beta
+@FunctionalInterface
+public interface DoubleColumnMapper extends ColumnMapper<Double> {
+    /**
+     * Map the given column of the current row of the result set to a {@code double}. This method should not cause
+     * the result set to advance.
+     * <p>
+     * Returns the value {@link #map(ResultSet, int, StatementContext)} would return, unboxed, or {@code 0} where
+     * it would return {@code null}. Callers tell the two apart with {@link ResultSet#wasNull()}.
+     *
+     * @param r            the result set being iterated
+     * @param columnNumber the column number to map (starts at 1)
+     * @param ctx          the statement context
+     * @return the value of the column
+     * @throws SQLException if anything goes wrong
+     */
+    double mapDouble(ResultSet r, int columnNumber, StatementContext ctx) throws SQLException;
+
+    @Override
+    default Double map(ResultSet r, int columnNumber, StatementContext ctx) throws SQLException {
+        double value = mapDouble(r, columnNumber, ctx);
+        return r.wasNull() ? null : value;
+    }
+}
@@ -22,6 +22,7 @@ import java.util.Optional;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.result.UnableToProduceResultException;
+import org.jdbi.v3.core.statement.StatementContext;
 
 import static org.jdbi.v3.core.generic.GenericTypes.getErasedType;
 
@@ -46,10 +47,10 @@ class PrimitiveMapperFactory implements ColumnMapperFactory {
         mappers.put(byte.class, primitiveMapper(ResultSet::getByte));
         mappers.put(char.class, primitiveMapper(PrimitiveMapperFactory::getChar));
         mappers.put(short.class, primitiveMapper(ResultSet::getShort));
-        mappers.put(int.class, primitiveMapper(ResultSet::getInt));
-        mappers.put(long.class, primitiveMapper(ResultSet::getLong));
+        mappers.put(int.class, intMapper());
+        mappers.put(long.class, longMapper());
         mappers.put(float.class, primitiveMapper(ResultSet::getFloat));
-        mappers.put(double.class, primitiveMapper(ResultSet::getDouble));
+        mappers.put(double.class, doubleMapper());
     }
 
     @Override
@@ -62,17 +63,68 @@ class PrimitiveMapperFactory implements ColumnMapperFactory {
     private static <T> ColumnMapper<T> primitiveMapper(ColumnGetter<T> getter) {
         return (r, i, ctx) -> {
             T value = getter.get(r, i);
-            if (r.wasNull() && !ctx.getConfig(ColumnMappers.class).getCoalesceNullPrimitivesToDefaults()) {
-                String msg = String.format("Database null values are not allowed for Java primitives by the current configuration:"
-                    + " could not map column %s (%s)."
-                    + " Change your result type to a boxed primitive to resolve.", i, r.getMetaData().getColumnLabel(i));
-                throw new UnableToProduceResultException(msg);
-            } else {
+            checkNull(r, i, ctx);
+            return value;
+        };
+    }
+
+    private static IntColumnMapper intMapper() {
+        return new IntColumnMapper() {
+            @Override
+            public int mapInt(ResultSet r, int i, StatementContext ctx) throws SQLException {
+                int value = r.getInt(i);
+                checkNull(r, i, ctx);
+                return value;
+            }
+
+            @Override
+            public Integer map(ResultSet r, int i, StatementContext ctx) throws SQLException {
+                return mapInt(r, i, ctx);
+            }
+        };
+    }
+
+    private static LongColumnMapper longMapper() {
+        return new LongColumnMapper() {
+            @Override
+            public long mapLong(ResultSet r, int i, StatementContext ctx) throws SQLException {
+                long value = r.getLong(i);
+                checkNull(r, i, ctx);
+                return value;
+            }
+
+            @Override
+            public Long map(ResultSet r, int i, StatementContext ctx) throws SQLException {
+                return mapLong(r, i, ctx);
+            }
+        };
+    }
+
+    private static DoubleColumnMapper doubleMapper() {
+        return new DoubleColumnMapper() {
+            @Override
+            public double mapDouble(ResultSet r, int i, StatementContext ctx) throws SQLException {
+                double value = r.getDouble(i);
+                checkNull(r, i, ctx);
                 return value;
             }
+
+            @Override
+            public Double map(ResultSet r, int i, StatementContext ctx) throws SQLException {
+                return mapDouble(r, i, ctx);
+            }
         };
     }
 
+    private static void checkNull(ResultSet r, int i, StatementContext ctx) throws SQLException {
+        if (r.wasNull() && !ctx.getConfig(ColumnMappers.class).getCoalesceNullPrimitivesToDefaults()) {
+            String msg = String.format("Database null values are not allowed for Java primitives by the current configuration:"
+                + " could not map column %s (%s)."
+                + " Change your result type to a boxed primitive to resolve.", i, r.getMetaData().getColumnLabel(i));
+            throw new UnableToProduceResultException(msg);
+        }
+    }
+
     private static char getChar(ResultSet r, int i) throws SQLException {
         Character character = getCharacter(r, i);
         return character == null ? '\000' : character;
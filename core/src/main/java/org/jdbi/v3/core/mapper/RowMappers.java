@@ -14,14 +14,16 @@
 package org.jdbi.v3.core.mapper;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.generic.GenericType;
+import org.jdbi.v3.core.internal.CopyableCache;
 import org.jdbi.v3.core.internal.JdbiOptionals;
 import org.jdbi.v3.core.mapper.reflect.internal.PojoMapperFactory;
 import org.jdbi.v3.core.statement.Query;
@@ -30,18 +32,22 @@ import org.jdbi.v3.core.statement.Query;
  * Configuration registry for {@link RowMapperFactory} instances.
  */
 public class RowMappers implements JdbiConfig<RowMappers> {
-    private final List<RowMapperFactory> factories = new CopyOnWriteArrayList<>();
-    private final ConcurrentHashMap<Type, RowMapper<?>> cache = new ConcurrentHashMap<>();
+    // the built-in factories are stateless, so every instance shares them; last registered first
+    private static final List<RowMapperFactory> BUILT_IN_FACTORIES =
+        Collections.unmodifiableList(Arrays.asList(new PojoMapperFactory(), MapEntryMapper.factory()));
+
+    // copies share the factory list and cache until either side registers a factory
+    private volatile List<RowMapperFactory> factories;
+    private volatile CopyableCache<Type, RowMapper<?>> cache = new CopyableCache<>();
     private ConfigRegistry registry;
 
     public RowMappers() {
-        register(MapEntryMapper.factory());
-        register(new PojoMapperFactory());
+        factories = BUILT_IN_FACTORIES;
     }
 
     private RowMappers(RowMappers that) {
-        factories.addAll(that.factories);
-        cache.putAll(that.cache);
+        factories = that.factories;
+        cache = that.cache.copy();
     }
 
     @Override
@@ -96,8 +102,11 @@ public class RowMappers implements JdbiConfig<RowMappers> {
      * @return this
      */
     public RowMappers register(RowMapperFactory factory) {
-        factories.add(0, factory);
-        cache.clear();
+        List<RowMapperFactory> updated = new ArrayList<>(factories.size() + 1);
+        updated.add(factory);
+        updated.addAll(factories);
+        factories = Collections.unmodifiableList(updated);
+        cache = new CopyableCache<>();
         return this;
     }
 
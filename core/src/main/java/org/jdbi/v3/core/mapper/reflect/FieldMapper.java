@@ -25,6 +25,9 @@ import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.mapper.DoubleColumnMapper;
+import org.jdbi.v3.core.mapper.IntColumnMapper;
+import org.jdbi.v3.core.mapper.LongColumnMapper;
 import org.jdbi.v3.core.mapper.Nested;
 import org.jdbi.v3.core.mapper.PropagateNull;
 import org.jdbi.v3.core.mapper.RowMapper;
@@ -155,7 +158,9 @@ public class FieldMapper<T> implements RowMapper<T> {
                             @SuppressWarnings("unchecked")
                             ColumnMapper<?> mapper = ctx.findColumnMapperFor(type)
                                 .orElse((ColumnMapper) (r, n, c) -> r.getObject(n));
-                            fields.add(new FieldData(field, new SingleColumnMapper<>(mapper, index + 1)));
+                            fields.add(new FieldData(field,
+                                new SingleColumnMapper<>(mapper, index + 1),
+                                primitiveCopy(field, mapper, index + 1)));
                             unmatchedColumns.remove(columnNames.get(index));
                         });
                 } else {
@@ -166,7 +171,7 @@ public class FieldMapper<T> implements RowMapper<T> {
                             .computeIfAbsent(field, f -> new FieldMapper<>(field.getType(), nestedPrefix))
                             .specialize0(ctx, columnNames, columnNameMatchers, unmatchedColumns)
                             .ifPresent(mapper ->
-                                fields.add(new FieldData(field, mapper)));
+                                fields.add(new FieldData(field, mapper, null)));
                     }
                 }
             }
@@ -188,6 +193,13 @@ public class FieldMapper<T> implements RowMapper<T> {
             T obj = construct();
 
             for (FieldData f : fields) {
+                if (f.primitiveCopy != null) {
+                    if (!f.primitiveCopy.copy(r, c, obj) && f.propagateNull) {
+                        return null;
+                    }
+                    continue;
+                }
+
                 Object value = f.mapper.map(r, ctx);
                 if (f.propagateNull && (value == null || f.isPrimitive && r.wasNull())) {
                     return null;
@@ -217,6 +229,54 @@ public class FieldMapper<T> implements RowMapper<T> {
         }
     }
 
+    /**
+     * Returns a copy that moves the column straight into a primitive field, if the field is an {@code int},
+     * {@code long} or {@code double} and the column mapper can hand the value over unboxed; null otherwise.
+     */
+    private static PrimitiveCopy primitiveCopy(Field field, ColumnMapper<?> mapper, int columnNumber) {
+        final Class<?> fieldType = field.getType();
+        if (fieldType.isPrimitive()) {
+            field.setAccessible(true);
+        }
+        if (fieldType == int.class && mapper instanceof IntColumnMapper) {
+            final IntColumnMapper intMapper = (IntColumnMapper) mapper;
+            return (r, c, obj) -> {
+                int value = intMapper.mapInt(r, columnNumber, c);
+                try {
+                    field.setInt(obj, value);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalArgumentException(String.format(CANNOT_ACCESS_PROPERTY, field.getName()), e);
+                }
+                return !r.wasNull();
+            };
+        }
+        if (fieldType == long.class && mapper instanceof LongColumnMapper) {
+            final LongColumnMapper longMapper = (LongColumnMapper) mapper;
+            return (r, c, obj) -> {
+                long value = longMapper.mapLong(r, columnNumber, c);
+                try {
+                    field.setLong(obj, value);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalArgumentException(String.format(CANNOT_ACCESS_PROPERTY, field.getName()), e);
+                }
+                return !r.wasNull();
+            };
+        }
+        if (fieldType == double.class && mapper instanceof DoubleColumnMapper) {
+            final DoubleColumnMapper doubleMapper = (DoubleColumnMapper) mapper;
+            return (r, c, obj) -> {
+                double value = doubleMapper.mapDouble(r, columnNumber, c);
+                try {
+                    field.setDouble(obj, value);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalArgumentException(String.format(CANNOT_ACCESS_PROPERTY, field.getName()), e);
+                }
+                return !r.wasNull();
+            };
+        }
+        return null;
+    }
+
     private void writeField(T obj, Field field, Object value) {
         try {
             field.setAccessible(true);
@@ -226,15 +286,27 @@ public class FieldMapper<T> implements RowMapper<T> {
         }
     }
 
+    @FunctionalInterface
+    private interface PrimitiveCopy {
+        /**
+         * Copies the column into the object's field.
+         *
+         * @return false if the column was null
+         */
+        boolean copy(ResultSet r, StatementContext ctx, Object obj) throws SQLException;
+    }
+
     private static class FieldData {
-        FieldData(Field field, RowMapper<?> mapper) {
+        FieldData(Field field, RowMapper<?> mapper, PrimitiveCopy primitiveCopy) {
             this.field = field;
             this.mapper = mapper;
+            this.primitiveCopy = primitiveCopy;
             propagateNull = field.getAnnotation(PropagateNull.class) != null;
             isPrimitive = field.getType().isPrimitive();
         }
         final Field field;
         final RowMapper<?> mapper;
+        final PrimitiveCopy primitiveCopy;
         final boolean propagateNull;
         final boolean isPrimitive;
     }
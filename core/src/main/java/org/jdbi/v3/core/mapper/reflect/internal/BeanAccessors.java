@@ -0,0 +1,174 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect.internal;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Links bean getters, setters and no-argument constructors to generated functional interface implementations,
+ * so that calling them costs an interface call instead of a reflective {@link Method#invoke}.
+ * <p>
+ * Only members of public types that Jdbi's own class loader resolves to the same class can be linked, since the
+ * generated classes refer to them by name. For anything else, an empty optional is returned and the caller
+ * should fall back to reflection.
+ */
+final class BeanAccessors {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    // deliberately not the context class loader: this is the loader the generated classes resolve names through
+    @SuppressWarnings("PMD.UseProperClassLoader")
+    private static final ClassLoader LOADER = BeanAccessors.class.getClassLoader();
+
+    private BeanAccessors() {}
+
+    static Optional<Function<Object, Object>> getter(Method method) {
+        if (!isLinkable(method) || method.getParameterCount() != 0 || method.getReturnType() == void.class) {
+            return Optional.empty();
+        }
+        return link(method,
+            Function.class,
+            "apply",
+            MethodType.methodType(Object.class, Object.class),
+            MethodType.methodType(box(method.getReturnType()), method.getDeclaringClass()));
+    }
+
+    static Optional<BiConsumer<Object, Object>> setter(Method method) {
+        if (!isLinkable(method) || method.getParameterCount() != 1) {
+            return Optional.empty();
+        }
+        return link(method,
+            BiConsumer.class,
+            "accept",
+            MethodType.methodType(void.class, Object.class, Object.class),
+            MethodType.methodType(void.class, method.getDeclaringClass(), box(method.getParameterTypes()[0])));
+    }
+
+    static Optional<ObjIntConsumer<Object>> intSetter(Method method) {
+        return primitiveSetter(method, int.class, ObjIntConsumer.class);
+    }
+
+    static Optional<ObjLongConsumer<Object>> longSetter(Method method) {
+        return primitiveSetter(method, long.class, ObjLongConsumer.class);
+    }
+
+    static Optional<ObjDoubleConsumer<Object>> doubleSetter(Method method) {
+        return primitiveSetter(method, double.class, ObjDoubleConsumer.class);
+    }
+
+    private static <F> Optional<F> primitiveSetter(Method method, Class<?> primitive, Class<? super F> functionalInterface) {
+        if (!isLinkable(method) || method.getParameterCount() != 1 || method.getParameterTypes()[0] != primitive) {
+            return Optional.empty();
+        }
+        return link(method,
+            functionalInterface,
+            "accept",
+            MethodType.methodType(void.class, Object.class, primitive),
+            MethodType.methodType(void.class, method.getDeclaringClass(), primitive));
+    }
+
+    static Optional<Supplier<Object>> constructor(Class<?> type) {
+        if (!isVisible(type) || type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            return Optional.empty();
+        }
+        try {
+            Constructor<?> constructor = type.getConstructor();
+            return link(LOOKUP.unreflectConstructor(constructor),
+                Supplier.class,
+                "get",
+                MethodType.methodType(Object.class),
+                MethodType.methodType(type));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static <F> Optional<F> link(Method method,
+                                        Class<? super F> functionalInterface,
+                                        String name,
+                                        MethodType erasedType,
+                                        MethodType instantiatedType) {
+        try {
+            return link(LOOKUP.unreflect(method), functionalInterface, name, erasedType, instantiatedType);
+        } catch (IllegalAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <F> Optional<F> link(MethodHandle target,
+                                        Class<? super F> functionalInterface,
+                                        String name,
+                                        MethodType erasedType,
+                                        MethodType instantiatedType) {
+        try {
+            CallSite site = LambdaMetafactory.metafactory(LOOKUP,
+                name,
+                MethodType.methodType(functionalInterface),
+                erasedType,
+                target,
+                instantiatedType);
+            return Optional.of((F) site.getTarget().invoke());
+        } catch (Throwable t) {
+            // any linkage problem just means we use reflection instead
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isLinkable(Method method) {
+        if (!Modifier.isPublic(method.getModifiers()) || Modifier.isStatic(method.getModifiers())
+            || !isVisible(method.getDeclaringClass()) || !isVisible(method.getReturnType())) {
+            return false;
+        }
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            if (!isVisible(parameterType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVisible(Class<?> type) {
+        if (type.isPrimitive()) {
+            return true;
+        }
+        if (type.isArray()) {
+            return isVisible(type.getComponentType());
+        }
+        if (!Modifier.isPublic(type.getModifiers())) {
+            return false;
+        }
+        try {
+            return Class.forName(type.getName(), false, LOADER) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    static Class<?> box(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+}
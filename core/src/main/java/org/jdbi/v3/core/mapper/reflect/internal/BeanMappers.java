@@ -0,0 +1,39 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect.internal;
+
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.config.JdbiCache;
+import org.jdbi.v3.core.config.JdbiCaches;
+import org.jdbi.v3.core.internal.UtilityClassException;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.mapper.reflect.BeanMapper;
+
+/**
+ * Bean mappers shared by every {@code mapToBean} of the same type, so the specializations they keep
+ * for each result set shape survive from one query to the next.
+ */
+public final class BeanMappers {
+    private static final JdbiCache<Class<?>, RowMapper<?>> MAPPER_CACHE =
+        JdbiCaches.declare(BeanMappers.class.getName(), type -> BeanMapper.of(type));
+
+    private BeanMappers() {
+        throw new UtilityClassException();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> RowMapper<T> forType(Class<T> type, ConfigRegistry config) {
+        return (RowMapper<T>) MAPPER_CACHE.get(type, config);
+    }
+}
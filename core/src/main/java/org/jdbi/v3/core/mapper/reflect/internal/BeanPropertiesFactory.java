@@ -25,7 +25,12 @@ import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -40,7 +45,7 @@ import org.jdbi.v3.core.qualifier.Qualifiers;
 import org.jdbi.v3.core.statement.UnableToCreateStatementException;
 
 public class BeanPropertiesFactory {
-    private static final JdbiCache<Type, Map<String, BeanPojoProperty<?>>> PROPERTY_CACHE =
+    private static final JdbiCache<Type, BeanType> PROPERTY_CACHE =
             JdbiCaches.declare(BeanPropertiesFactory::getProperties0);
 
     private static final String TYPE_NOT_INSTANTIABLE =
@@ -70,17 +75,37 @@ public class BeanPropertiesFactory {
         return read == null || read.getDeclaringClass() != Object.class;
     }
 
-    private static Map<String, BeanPojoProperty<?>> getProperties0(Type t) {
+    private static BeanType getProperties0(Type t) {
+        final Class<?> type = GenericTypes.getErasedType(t);
         try {
-            return Arrays.stream(Introspector.getBeanInfo(GenericTypes.getErasedType(t)).getPropertyDescriptors())
+            return new BeanType(type, Arrays.stream(Introspector.getBeanInfo(type).getPropertyDescriptors())
                     .filter(BeanPropertiesFactory::shouldSeeProperty)
                     .map(BeanPojoProperty::new)
-                    .collect(Collectors.toMap(PojoProperty::getName, Function.identity()));
+                    .collect(Collectors.toMap(PojoProperty::getName, Function.identity())));
         } catch (IntrospectionException e) {
             throw new IllegalArgumentException("Failed to inspect bean " + t, e);
         }
     }
 
+    /**
+     * Everything we know about a bean class: its properties, and how to instantiate it.
+     */
+    static class BeanType {
+        final Map<String, BeanPojoProperty<?>> properties;
+        final Supplier<Object> constructor;
+
+        BeanType(Class<?> type, Map<String, BeanPojoProperty<?>> properties) {
+            this.properties = properties;
+            this.constructor = BeanAccessors.constructor(type).orElseGet(() -> () -> {
+                try {
+                    return type.newInstance();
+                } catch (Exception e) {
+                    throw new IllegalArgumentException(String.format(TYPE_NOT_INSTANTIABLE, type.getName()), e);
+                }
+            });
+        }
+    }
+
     static class BeanPojoProperties<T> extends PojoProperties<T> {
         private final ConfigRegistry config;
 
@@ -92,37 +117,38 @@ public class BeanPropertiesFactory {
         @SuppressWarnings({ "unchecked", "rawtypes" })
         @Override
         public Map<String, BeanPojoProperty<T>> getProperties() {
-            return (Map) PROPERTY_CACHE.get(getType(), config);
+            return (Map) PROPERTY_CACHE.get(getType(), config).properties;
         }
 
         @SuppressWarnings("unchecked")
         @Override
         public PojoBuilder<T> create() {
-            final Class<?> type = GenericTypes.getErasedType(getType());
-            final T instance;
-            try {
-                instance = (T) type.newInstance();
-            } catch (Exception e) {
-                throw new IllegalArgumentException(String.format(TYPE_NOT_INSTANTIABLE, type.getName()), e);
-            }
+            final BeanType beanType = PROPERTY_CACHE.get(getType(), config);
+            final T instance = (T) beanType.constructor.get();
             return new PojoBuilder<T>() {
                 @Override
                 public void set(String property, Object value) {
-                    final BeanPojoProperty<T> prop = getProperties().get(property);
-                    try {
-                        Method writeMethod = prop.descriptor.getWriteMethod();
-                        if (writeMethod == null) {
-                            throw new IllegalArgumentException(String.format(MISSING_SETTER, property));
-                        }
-                        writeMethod.invoke(instance, value);
-                    } catch (IllegalAccessException e) {
-                        throw new IllegalArgumentException(String.format(SETTER_NOT_ACCESSIBLE, property), e);
-                    } catch (InvocationTargetException e) {
-                        throw new IllegalArgumentException(String.format(INVOCATION_TARGET_EXCEPTION, property), e);
-                    } catch (IllegalArgumentException e) {
-                        throw new IllegalArgumentException(String.format(REFLECTION_ILLEGAL_ARGUMENT_EXCEPTION,
-                            prop.getQualifiedType(), prop.getName()), e);
-                    }
+                    ((BeanPojoProperty<T>) beanType.properties.get(property)).set(instance, value);
+                }
+
+                @Override
+                public void set(PojoProperty<T> property, Object value) {
+                    ((BeanPojoProperty<T>) property).set(instance, value);
+                }
+
+                @Override
+                public void setInt(PojoProperty<T> property, int value) {
+                    ((BeanPojoProperty<T>) property).setInt(instance, value);
+                }
+
+                @Override
+                public void setLong(PojoProperty<T> property, long value) {
+                    ((BeanPojoProperty<T>) property).setLong(instance, value);
+                }
+
+                @Override
+                public void setDouble(PojoProperty<T> property, double value) {
+                    ((BeanPojoProperty<T>) property).setDouble(instance, value);
                 }
 
                 @Override
@@ -134,18 +160,32 @@ public class BeanPropertiesFactory {
 
         static class BeanPojoProperty<T> implements PojoProperty<T> {
             final PropertyDescriptor descriptor;
+            private final QualifiedType<?> qualifiedType;
+            private final Function<Object, Object> getter;
+            private final BiConsumer<Object, Object> setter;
+            // only set when the setter takes that primitive and could be linked
+            private final ObjIntConsumer<Object> intSetter;
+            private final ObjLongConsumer<Object> longSetter;
+            private final ObjDoubleConsumer<Object> doubleSetter;
 
             BeanPojoProperty(PropertyDescriptor property) {
                 this.descriptor = property;
+                this.qualifiedType = qualifiedTypeOf(property);
+                this.getter = Optional.ofNullable(property.getReadMethod())
+                    .flatMap(BeanAccessors::getter)
+                    .map(this::guarded)
+                    .orElse(this::reflectiveGet);
+                this.setter = Optional.ofNullable(property.getWriteMethod())
+                    .flatMap(BeanAccessors::setter)
+                    .map(this::guarded)
+                    .orElse(this::reflectiveSet);
+                Optional<Method> writeMethod = Optional.ofNullable(property.getWriteMethod());
+                this.intSetter = writeMethod.flatMap(BeanAccessors::intSetter).orElse(null);
+                this.longSetter = writeMethod.flatMap(BeanAccessors::longSetter).orElse(null);
+                this.doubleSetter = writeMethod.flatMap(BeanAccessors::doubleSetter).orElse(null);
             }
 
-            @Override
-            public String getName() {
-                return descriptor.getName();
-            }
-
-            @Override
-            public QualifiedType<?> getQualifiedType() {
+            private static QualifiedType<?> qualifiedTypeOf(PropertyDescriptor descriptor) {
                 Parameter setterParam = Optional.ofNullable(descriptor.getWriteMethod())
                     .map(m -> m.getParameterCount() > 0 ? m.getParameters()[0] : null)
                     .orElse(null);
@@ -158,6 +198,16 @@ public class BeanPropertiesFactory {
                         new Qualifiers().findFor(descriptor.getReadMethod(), descriptor.getWriteMethod(), setterParam));
             }
 
+            @Override
+            public String getName() {
+                return descriptor.getName();
+            }
+
+            @Override
+            public QualifiedType<?> getQualifiedType() {
+                return qualifiedType;
+            }
+
             @Override
             public <A extends Annotation> Optional<A> getAnnotation(Class<A> anno) {
                 return Stream.of(descriptor.getReadMethod(), descriptor.getWriteMethod())
@@ -169,6 +219,82 @@ public class BeanPropertiesFactory {
 
             @Override
             public Object get(T pojo) {
+                return getter.apply(pojo);
+            }
+
+            void set(Object bean, Object value) {
+                setter.accept(bean, value);
+            }
+
+            @SuppressWarnings("PMD.AvoidCatchingGenericException")
+            void setInt(Object bean, int value) {
+                if (intSetter == null) {
+                    set(bean, value);
+                    return;
+                }
+                try {
+                    intSetter.accept(bean, value);
+                } catch (Exception e) {
+                    throw new IllegalArgumentException(String.format(INVOCATION_TARGET_EXCEPTION, getName()), e);
+                }
+            }
+
+            @SuppressWarnings("PMD.AvoidCatchingGenericException")
+            void setLong(Object bean, long value) {
+                if (longSetter == null) {
+                    set(bean, value);
+                    return;
+                }
+                try {
+                    longSetter.accept(bean, value);
+                } catch (Exception e) {
+                    throw new IllegalArgumentException(String.format(INVOCATION_TARGET_EXCEPTION, getName()), e);
+                }
+            }
+
+            @SuppressWarnings("PMD.AvoidCatchingGenericException")
+            void setDouble(Object bean, double value) {
+                if (doubleSetter == null) {
+                    set(bean, value);
+                    return;
+                }
+                try {
+                    doubleSetter.accept(bean, value);
+                } catch (Exception e) {
+                    throw new IllegalArgumentException(String.format(INVOCATION_TARGET_EXCEPTION, getName()), e);
+                }
+            }
+
+            @SuppressWarnings("PMD.AvoidCatchingGenericException")
+            private Function<Object, Object> guarded(Function<Object, Object> generated) {
+                return pojo -> {
+                    try {
+                        return generated.apply(pojo);
+                    } catch (Exception e) {
+                        throw new UnableToCreateStatementException(String.format("Invocation target exception invoking "
+                                + "method [%s] on [%s]",
+                                descriptor.getReadMethod().getName(), pojo), e);
+                    }
+                };
+            }
+
+            @SuppressWarnings("PMD.AvoidCatchingGenericException")
+            private BiConsumer<Object, Object> guarded(BiConsumer<Object, Object> generated) {
+                final Class<?> parameterType = BeanAccessors.box(descriptor.getWriteMethod().getParameterTypes()[0]);
+                return (bean, value) -> {
+                    try {
+                        generated.accept(bean, value);
+                    } catch (Exception e) {
+                        // the same distinction Method.invoke makes: either the value didn't fit or the setter threw
+                        String message = parameterType.isInstance(value)
+                            ? String.format(INVOCATION_TARGET_EXCEPTION, getName())
+                            : String.format(REFLECTION_ILLEGAL_ARGUMENT_EXCEPTION, getQualifiedType(), getName());
+                        throw new IllegalArgumentException(message, e);
+                    }
+                };
+            }
+
+            private Object reflectiveGet(Object pojo) {
                 Method getter = descriptor.getReadMethod();
 
                 if (getter == null) {
@@ -189,6 +315,23 @@ public class BeanPropertiesFactory {
                             getter.getName(), pojo), e);
                 }
             }
+
+            private void reflectiveSet(Object bean, Object value) {
+                Method writeMethod = descriptor.getWriteMethod();
+                if (writeMethod == null) {
+                    throw new IllegalArgumentException(String.format(MISSING_SETTER, getName()));
+                }
+                try {
+                    writeMethod.invoke(bean, value);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalArgumentException(String.format(SETTER_NOT_ACCESSIBLE, getName()), e);
+                } catch (InvocationTargetException e) {
+                    throw new IllegalArgumentException(String.format(INVOCATION_TARGET_EXCEPTION, getName()), e);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException(String.format(REFLECTION_ILLEGAL_ARGUMENT_EXCEPTION,
+                        getQualifiedType(), getName()), e);
+                }
+            }
         }
     }
 }
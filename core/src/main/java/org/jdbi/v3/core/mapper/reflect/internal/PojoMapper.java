@@ -15,8 +15,10 @@ package org.jdbi.v3.core.mapper.reflect.internal;
 
 import java.lang.reflect.Type;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -29,6 +31,9 @@ import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.generic.GenericTypes;
 import org.jdbi.v3.core.internal.exceptions.Unchecked;
 import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.mapper.DoubleColumnMapper;
+import org.jdbi.v3.core.mapper.IntColumnMapper;
+import org.jdbi.v3.core.mapper.LongColumnMapper;
 import org.jdbi.v3.core.mapper.Nested;
 import org.jdbi.v3.core.mapper.NoSuchMapperException;
 import org.jdbi.v3.core.mapper.PropagateNull;
@@ -39,12 +44,12 @@ import org.jdbi.v3.core.mapper.reflect.ColumnNameMatcher;
 import org.jdbi.v3.core.mapper.reflect.ReflectionMappers;
 import org.jdbi.v3.core.mapper.reflect.internal.PojoProperties.PojoBuilder;
 import org.jdbi.v3.core.mapper.reflect.internal.PojoProperties.PojoProperty;
+import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.core.result.UnableToProduceResultException;
 import org.jdbi.v3.core.statement.StatementContext;
 
 import static org.jdbi.v3.core.mapper.reflect.ReflectionMapperUtil.anyColumnsStartWithPrefix;
 import static org.jdbi.v3.core.mapper.reflect.ReflectionMapperUtil.findColumnIndex;
-import static org.jdbi.v3.core.mapper.reflect.ReflectionMapperUtil.getColumnNames;
 
 /** This class is the future home of BeanMapper functionality. */
 public class PojoMapper<T> implements RowMapper<T> {
@@ -55,10 +60,14 @@ public class PojoMapper<T> implements RowMapper<T> {
     private static final String UNMATCHED_COLUMNS_STRICT =
         "Mapping bean %s could not match properties for columns: %s";
 
+    /** Result set shapes remembered per mapper; a mapper seeing more shapes than this specializes the rest every time. */
+    private static final int MAX_SPECIALIZATIONS = 64;
+
     protected boolean strictColumnTypeMapping = true; // this should be default (only?) behavior but that's a breaking change
     protected final Type type;
     protected final String prefix;
     private final Map<PojoProperty<T>, PojoMapper<?>> nestedMappers = new ConcurrentHashMap<>();
+    private final Map<List<String>, Specialization<T>> specializations = new ConcurrentHashMap<>();
 
     public PojoMapper(Type type, String prefix) {
         this.type = type;
@@ -72,28 +81,61 @@ public class PojoMapper<T> implements RowMapper<T> {
 
     @Override
     public RowMapper<T> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
-        final List<String> columnNames = getColumnNames(rs);
-        final List<ColumnNameMatcher> columnNameMatchers =
-                ctx.getConfig(ReflectionMappers.class).getColumnNameMatchers();
+        final List<String> columnLabels = getColumnLabels(rs);
+        final ReflectionMappers reflectionMappers = ctx.getConfig(ReflectionMappers.class);
+        final List<ColumnNameMatcher> columnNameMatchers = reflectionMappers.getColumnNameMatchers();
+
+        Specialization<T> specialization = specializations.get(columnLabels);
+        if (specialization == null || !specialization.isValidFor(columnNameMatchers, ctx)) {
+            boolean cached = specialization != null;
+            specialization = specialize(columnLabels, columnNameMatchers, ctx);
+            if (cached || specializations.size() < MAX_SPECIALIZATIONS) {
+                specializations.put(columnLabels, specialization);
+            }
+        }
+
+        if (reflectionMappers.isStrictMatching()
+            && anyColumnsStartWithPrefix(specialization.unmatchedColumns, prefix, columnNameMatchers)) {
+
+            throw new IllegalArgumentException(
+                String.format(UNMATCHED_COLUMNS_STRICT, type, specialization.unmatchedColumns));
+        }
+
+        return specialization.mapper;
+    }
+
+    private Specialization<T> specialize(List<String> columnLabels,
+                                         List<ColumnNameMatcher> columnNameMatchers,
+                                         StatementContext ctx) {
+        final List<String> columnNames = new ArrayList<>(columnLabels.size());
+        for (String label : columnLabels) {
+            columnNames.add(label.toLowerCase());
+        }
         final List<String> unmatchedColumns = new ArrayList<>(columnNames);
+        final List<ColumnBinding> columnBindings = new ArrayList<>();
 
-        RowMapper<T> result = specialize0(ctx, columnNames, columnNameMatchers, unmatchedColumns)
+        RowMapper<T> mapper = specialize0(ctx, columnNames, columnNameMatchers, unmatchedColumns, columnBindings)
             .orElseThrow(() -> new IllegalArgumentException(String.format(NO_MATCHING_COLUMNS, type)));
 
-        if (ctx.getConfig(ReflectionMappers.class).isStrictMatching()
-            && anyColumnsStartWithPrefix(unmatchedColumns, prefix, columnNameMatchers)) {
+        return new Specialization<>(mapper, columnNameMatchers, unmatchedColumns, columnBindings);
+    }
 
-            throw new IllegalArgumentException(
-                String.format(UNMATCHED_COLUMNS_STRICT, type, unmatchedColumns));
+    private static List<String> getColumnLabels(ResultSet rs) throws SQLException {
+        final ResultSetMetaData metadata = rs.getMetaData();
+        final String[] labels = new String[metadata.getColumnCount()];
+
+        for (int i = 0; i < labels.length; ++i) {
+            labels[i] = metadata.getColumnLabel(i + 1);
         }
 
-        return result;
+        return Arrays.asList(labels);
     }
 
     private Optional<RowMapper<T>> specialize0(StatementContext ctx,
                                                List<String> columnNames,
                                                List<ColumnNameMatcher> columnNameMatchers,
-                                               List<String> unmatchedColumns) {
+                                               List<String> unmatchedColumns,
+                                               List<ColumnBinding> columnBindings) {
         final List<PropertyData<T>> propList = new ArrayList<>();
 
         for (PojoProperty<T> property : getProperties(ctx.getConfig()).getProperties().values()) {
@@ -107,11 +149,14 @@ public class PojoMapper<T> implements RowMapper<T> {
 
                 findColumnIndex(paramName, columnNames, columnNameMatchers, () -> debugName(property))
                     .ifPresent(index -> {
-                        @SuppressWarnings({ "unchecked", "rawtypes" })
-                        ColumnMapper<?> mapper = ctx.findColumnMapperFor(property.getQualifiedType().mapType(GenericTypes::box))
-                            .orElseGet(() -> (ColumnMapper) defaultColumnMapper(property));
+                        QualifiedType<?> columnType = property.getQualifiedType().mapType(GenericTypes::box);
+                        ColumnMapper<?> found = ctx.findColumnMapperFor(columnType).orElse(null);
+                        columnBindings.add(new ColumnBinding(columnType, found));
 
-                        propList.add(new PropertyData<>(property, new SingleColumnMapper<>(mapper, index + 1)));
+                        ColumnMapper<?> mapper = found == null ? defaultColumnMapper(property) : found;
+                        propList.add(new PropertyData<>(property,
+                            new SingleColumnMapper<>(mapper, index + 1),
+                            primitiveCopy(property, mapper, index + 1)));
                         unmatchedColumns.remove(columnNames.get(index));
                     });
             } else {
@@ -119,9 +164,9 @@ public class PojoMapper<T> implements RowMapper<T> {
                 if (anyColumnsStartWithPrefix(columnNames, nestedPrefix, columnNameMatchers)) {
                     nestedMappers
                         .computeIfAbsent(property, d -> createNestedMapper(ctx, d, nestedPrefix))
-                        .specialize0(ctx, columnNames, columnNameMatchers, unmatchedColumns)
+                        .specialize0(ctx, columnNames, columnNameMatchers, unmatchedColumns, columnBindings)
                         .ifPresent(nestedMapper ->
-                            propList.add(new PropertyData<>(property, nestedMapper)));
+                            propList.add(new PropertyData<>(property, nestedMapper, null)));
                 }
             }
         }
@@ -141,7 +186,14 @@ public class PojoMapper<T> implements RowMapper<T> {
             final PojoBuilder<T> pojo = getProperties(c.getConfig()).create();
 
             for (PropertyData<T> p : propList) {
-                Object value = p.mapper.map(r, ctx);
+                if (p.primitiveCopy != null) {
+                    if (!p.primitiveCopy.copy(r, c, pojo) && p.propagateNull) {
+                        return null;
+                    }
+                    continue;
+                }
+
+                Object value = p.mapper.map(r, c);
                 if (p.propagateNull && (value == null || p.isPrimitive && r.wasNull())) {
                     return null;
                 }
@@ -155,6 +207,48 @@ public class PojoMapper<T> implements RowMapper<T> {
         });
     }
 
+    /**
+     * Returns a copy that moves the column straight into a primitive property, if the property is an {@code int},
+     * {@code long} or {@code double} and the column mapper can hand the value over unboxed; null otherwise.
+     */
+    private PrimitiveCopy<T> primitiveCopy(PojoProperty<T> property, ColumnMapper<?> mapper, int columnNumber) {
+        final Type propertyType = property.getQualifiedType().getType();
+        if (propertyType == int.class && mapper instanceof IntColumnMapper) {
+            final IntColumnMapper intMapper = (IntColumnMapper) mapper;
+            return (r, c, pojo) -> {
+                int value = intMapper.mapInt(r, columnNumber, c);
+                if (r.wasNull()) {
+                    return false;
+                }
+                pojo.setInt(property, value);
+                return true;
+            };
+        }
+        if (propertyType == long.class && mapper instanceof LongColumnMapper) {
+            final LongColumnMapper longMapper = (LongColumnMapper) mapper;
+            return (r, c, pojo) -> {
+                long value = longMapper.mapLong(r, columnNumber, c);
+                if (r.wasNull()) {
+                    return false;
+                }
+                pojo.setLong(property, value);
+                return true;
+            };
+        }
+        if (propertyType == double.class && mapper instanceof DoubleColumnMapper) {
+            final DoubleColumnMapper doubleMapper = (DoubleColumnMapper) mapper;
+            return (r, c, pojo) -> {
+                double value = doubleMapper.mapDouble(r, columnNumber, c);
+                if (r.wasNull()) {
+                    return false;
+                }
+                pojo.setDouble(property, value);
+                return true;
+            };
+        }
+        return null;
+    }
+
     @SuppressWarnings("unchecked")
     protected PojoProperties<T> getProperties(ConfigRegistry config) {
         return (PojoProperties<T>) config.get(PojoTypes.class).findFor(type)
@@ -196,15 +290,69 @@ public class PojoMapper<T> implements RowMapper<T> {
         return String.format("%s.%s", type, p.getName());
     }
 
+    /**
+     * A specialized mapper for one result set shape, along with what it was built from so that
+     * a statement with different configuration doesn't pick up a stale mapper.
+     */
+    private static class Specialization<T> {
+        final RowMapper<T> mapper;
+        final List<ColumnNameMatcher> columnNameMatchers;
+        final List<String> unmatchedColumns;
+        final List<ColumnBinding> columnBindings;
+
+        Specialization(RowMapper<T> mapper,
+                       List<ColumnNameMatcher> columnNameMatchers,
+                       List<String> unmatchedColumns,
+                       List<ColumnBinding> columnBindings) {
+            this.mapper = mapper;
+            this.columnNameMatchers = new ArrayList<>(columnNameMatchers);
+            this.unmatchedColumns = unmatchedColumns;
+            this.columnBindings = columnBindings;
+        }
+
+        boolean isValidFor(List<ColumnNameMatcher> matchers, StatementContext ctx) {
+            if (!columnNameMatchers.equals(matchers)) {
+                return false;
+            }
+            for (ColumnBinding binding : columnBindings) {
+                if (ctx.findColumnMapperFor(binding.type).orElse(null) != binding.mapper) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static class ColumnBinding {
+        ColumnBinding(QualifiedType<?> type, ColumnMapper<?> mapper) {
+            this.type = type;
+            this.mapper = mapper;
+        }
+        final QualifiedType<?> type;
+        final ColumnMapper<?> mapper;
+    }
+
+    @FunctionalInterface
+    private interface PrimitiveCopy<T> {
+        /**
+         * Copies the column into the pojo, unless it is null.
+         *
+         * @return false if the column was null
+         */
+        boolean copy(ResultSet r, StatementContext ctx, PojoBuilder<T> pojo) throws SQLException;
+    }
+
     private static class PropertyData<T> {
-        PropertyData(PojoProperty<T> property, RowMapper<?> mapper) {
+        PropertyData(PojoProperty<T> property, RowMapper<?> mapper, PrimitiveCopy<T> primitiveCopy) {
             this.property = property;
             this.mapper = mapper;
+            this.primitiveCopy = primitiveCopy;
             propagateNull = property.getAnnotation(PropagateNull.class).isPresent();
             isPrimitive = GenericTypes.getErasedType(property.getQualifiedType().getType()).isPrimitive();
         }
         final PojoProperty<T> property;
         final RowMapper<?> mapper;
+        final PrimitiveCopy<T> primitiveCopy;
         final boolean propagateNull;
         final boolean isPrimitive;
     }
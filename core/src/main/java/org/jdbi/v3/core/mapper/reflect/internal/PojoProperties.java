@@ -44,6 +44,18 @@ public abstract class PojoProperties<T> {
             set(property.getName(), value);
         }
 
+        default void setInt(PojoProperty<T> property, int value) {
+            set(property, value);
+        }
+
+        default void setLong(PojoProperty<T> property, long value) {
+            set(property, value);
+        }
+
+        default void setDouble(PojoProperty<T> property, double value) {
+            set(property, value);
+        }
+
         T build();
     }
 
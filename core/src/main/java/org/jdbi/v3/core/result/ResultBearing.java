@@ -35,6 +35,7 @@ import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.mapper.RowViewMapper;
 import org.jdbi.v3.core.mapper.SingleColumnMapper;
 import org.jdbi.v3.core.mapper.reflect.BeanMapper;
+import org.jdbi.v3.core.mapper.reflect.internal.BeanMappers;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.core.result.internal.RowViewImpl;
 import org.jdbi.v3.core.statement.StatementContext;
@@ -144,7 +145,8 @@ public interface ResultBearing {
      */
     @SuppressWarnings("deprecation")
     default <T> ResultIterable<T> mapToBean(Class<T> type) {
-        return map(BeanMapper.of(type));
+        return scanResultSet((supplier, ctx) ->
+            ResultIterable.of(supplier, BeanMappers.forType(type, ctx.getConfig()), ctx));
     }
 
     /**
@@ -230,6 +232,7 @@ public interface ResultBearing {
         return scanResultSet((supplier, ctx) -> {
             try (ResultSet rs = supplier.get()) {
                 RowView rowView = new RowViewImpl(rs, ctx);
+                reducer.prepare(rowView);
 
                 C container = reducer.container();
                 while (rs.next()) {
@@ -15,6 +15,8 @@ package org.jdbi.v3.core.result;
 
 import java.util.stream.Stream;
 
+import org.jdbi.v3.meta.Beta;
+
 /**
  * Reduces row data from a {@link java.sql.ResultSet} into a stream of result
  * elements. Useful for collapsing one-to-many joins.
@@ -31,6 +33,16 @@ public interface RowReducer<C, R> {
    */
   C container();
 
+  /**
+   * Called once with the row view, before the first row is accumulated. Reducers may declare the columns
+   * {@link #accumulate(Object, RowView) accumulate()} reads with {@link RowView#prepareColumn(String, org.jdbi.v3.core.qualifier.QualifiedType)},
+   * so their indexes and mappers are resolved once for the whole result set.
+   *
+   * @param rowView row view over the result set, not yet positioned on a row
+   */
+  @Beta
+  default void prepare(RowView rowView) {}
+
   /**
    * Accumulate data from the current row into the result container. Do not attempt
    * to accumulate the {@link RowView} itself into the result container--it is only
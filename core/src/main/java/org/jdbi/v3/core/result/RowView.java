@@ -17,6 +17,7 @@ import java.lang.reflect.Type;
 
 import org.jdbi.v3.core.generic.GenericType;
 import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * A RowView is an accessor for {@code ResultSet} that uses
@@ -136,4 +137,29 @@ public abstract class RowView {
     public Object getColumn(int column, Type type) {
         return getColumn(column, QualifiedType.of(type));
     }
+
+    /**
+     * Declare that a column will be read as the given type, so its index and mapper can be resolved once, before
+     * the first row is read. Columns that are not declared are resolved the first time they are read.
+     * @param column the column name
+     * @param type the QualifiedType the column will be read as
+     * @return this
+     * @see RowReducer#prepare(RowView)
+     */
+    @Beta
+    public RowView prepareColumn(String column, QualifiedType<?> type) {
+        return this;
+    }
+
+    /**
+     * Declare that a column will be read as the given type.
+     * @param column the column name
+     * @param type the Type the column will be read as
+     * @return this
+     * @see #prepareColumn(String, QualifiedType)
+     */
+    @Beta
+    public RowView prepareColumn(String column, Type type) {
+        return prepareColumn(column, QualifiedType.of(type));
+    }
 }
@@ -0,0 +1,192 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.PartitionQuery;
+import org.jdbi.v3.core.result.UnableToProduceResultException;
+
+/**
+ * Runs each partition of a query on its own handle and executor thread, and merges their rows through a bounded
+ * queue into a single stream. Producers block while the queue is full, and closing the stream stops them and waits
+ * until every handle is closed.
+ */
+public final class PartitionedResults<P, T> extends Spliterators.AbstractSpliterator<T> {
+    private static final Object NULL = new Object();
+    private static final Object END = new Object();
+    private static final long OFFER_MILLIS = 100;
+    private static final String INLINE_EXECUTION =
+        "The executor ran a partition on the thread consuming its results; it must run partitions on other threads";
+
+    private final Jdbi jdbi;
+    private final List<P> partitions;
+    private final Executor executor;
+    private final PartitionQuery<P, T> query;
+    private final BlockingQueue<Object> queue;
+    private final CountDownLatch finished;
+
+    private volatile boolean cancelled;
+    private boolean started;
+    private int remaining;
+
+    private PartitionedResults(Jdbi jdbi, Collection<? extends P> partitions, Executor executor, PartitionQuery<P, T> query, int bufferSize) {
+        super(Long.MAX_VALUE, 0);
+        this.jdbi = jdbi;
+        this.partitions = new ArrayList<>(partitions);
+        this.executor = executor;
+        this.query = query;
+        this.queue = new ArrayBlockingQueue<>(bufferSize);
+        this.finished = new CountDownLatch(this.partitions.size());
+        this.remaining = this.partitions.size();
+    }
+
+    public static <P, T> Stream<T> stream(Jdbi jdbi, Collection<? extends P> partitions, Executor executor, PartitionQuery<P, T> query, int bufferSize) {
+        PartitionedResults<P, T> results = new PartitionedResults<>(jdbi, partitions, executor, query, bufferSize);
+        return StreamSupport.stream(results, false).onClose(results::close);
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "PMD.CompareObjectsWithEquals"})
+    public boolean tryAdvance(Consumer<? super T> action) {
+        start();
+        while (remaining > 0) {
+            Object next = take();
+            if (next == END) {
+                remaining--;
+            } else if (next instanceof Failure) {
+                close();
+                throw ((Failure) next).rethrow();
+            } else {
+                action.accept(next == NULL ? null : (T) next);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings({"PMD.CompareObjectsWithEquals", "PMD.DoNotUseThreads"})
+    private void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        Thread consumer = Thread.currentThread();
+        for (int i = 0; i < partitions.size(); i++) {
+            P partition = partitions.get(i);
+            try {
+                executor.execute(() -> {
+                    // run inline, the partition would block on the full queue that only this thread drains
+                    if (Thread.currentThread() == consumer) {
+                        throw new IllegalStateException(INLINE_EXECUTION);
+                    }
+                    produce(partition);
+                });
+            } catch (RejectedExecutionException | IllegalStateException e) {
+                // the partitions that will never run count as finished
+                for (int j = i; j < partitions.size(); j++) {
+                    finished.countDown();
+                }
+                close();
+                throw e;
+            }
+        }
+    }
+
+    private Object take() {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new UnableToProduceResultException("Interrupted while waiting for partitioned results", e, null);
+        }
+    }
+
+    private void produce(P partition) {
+        try {
+            if (!cancelled) {
+                jdbi.useHandle(handle -> {
+                    try (Stream<T> rows = query.query(handle, partition).stream()) {
+                        Iterator<T> iterator = rows.iterator();
+                        while (!cancelled && iterator.hasNext()) {
+                            T row = iterator.next();
+                            offer(row == null ? NULL : row);
+                        }
+                    }
+                });
+            }
+            offer(END);
+        } catch (RuntimeException | Error e) {
+            offer(new Failure(e));
+        } finally {
+            finished.countDown();
+        }
+    }
+
+    private void offer(Object element) {
+        try {
+            while (!cancelled) {
+                if (queue.offer(element, OFFER_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelled = true;
+        }
+    }
+
+    private void close() {
+        cancelled = true;
+        if (!started) {
+            return;
+        }
+        queue.clear();
+        try {
+            finished.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Failure {
+        private final Throwable cause;
+
+        Failure(Throwable cause) {
+            this.cause = cause;
+        }
+
+        RuntimeException rethrow() {
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            return (RuntimeException) cause;
+        }
+    }
+}
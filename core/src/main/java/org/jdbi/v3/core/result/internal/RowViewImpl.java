@@ -16,9 +16,12 @@ package org.jdbi.v3.core.result.internal;
 import java.lang.reflect.Type;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
+import org.jdbi.v3.core.config.JdbiCache;
+import org.jdbi.v3.core.config.JdbiCaches;
 import org.jdbi.v3.core.mapper.ColumnMapper;
 import org.jdbi.v3.core.mapper.MappingException;
 import org.jdbi.v3.core.mapper.NoSuchMapperException;
@@ -27,12 +30,26 @@ import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.core.result.RowView;
 import org.jdbi.v3.core.statement.StatementContext;
 
+/**
+ * A row view over one result set, used by a single thread. Column labels are resolved to indexes once, and each
+ * column remembers the mapper it was last read with, so repeated reads on every row skip the lookups. Columns read
+ * by label still go through {@link ColumnMapper#map(ResultSet, String, StatementContext)} if the mapper overrides it.
+ */
 public class RowViewImpl extends RowView {
+    private static final JdbiCache<Class<?>, Boolean> MAPS_BY_LABEL =
+        JdbiCaches.declare(RowViewImpl.class.getName(), RowViewImpl::overridesLabelMap);
+
     private final StatementContext ctx;
     private final ResultSet rs;
 
-    private final Map<Type, RowMapper<?>> rowMappers = new ConcurrentHashMap<>();
-    private final Map<QualifiedType<?>, ColumnMapper<?>> columnMappers = new ConcurrentHashMap<>();
+    private final Map<Type, RowMapper<?>> rowMappers = new HashMap<>();
+    private final Map<QualifiedType<?>, ColumnMapper<?>> columnMappers = new HashMap<>();
+    private final Map<String, Integer> columnIndexes = new HashMap<>();
+
+    // per column index: the type it was last read as, and the mapper for that type
+    private QualifiedType<?>[] slotTypes = new QualifiedType<?>[0];
+    private ColumnMapper<?>[] slotMappers = new ColumnMapper<?>[0];
+    private boolean[] slotMapsByLabel = new boolean[0];
 
     public RowViewImpl(ResultSet rs, StatementContext ctx) {
         this.rs = rs;
@@ -54,15 +71,13 @@ public class RowViewImpl extends RowView {
     }
 
     private RowMapper<?> rowMapperFor(Type type) throws SQLException {
-        if (rowMappers.containsKey(type)) {
-            return rowMappers.get(type);
-        }
-
-        RowMapper<?> mapper = ctx.findRowMapperFor(type)
+        RowMapper<?> mapper = rowMappers.get(type);
+        if (mapper == null) {
+            mapper = ctx.findRowMapperFor(type)
                 .orElseThrow(() -> new NoSuchMapperException("No row mapper registered for " + type))
                 .specialize(rs, ctx);
-        rowMappers.put(type, mapper);
-
+            rowMappers.put(type, mapper);
+        }
         return mapper;
     }
 
@@ -77,7 +92,7 @@ public class RowViewImpl extends RowView {
     @SuppressWarnings("unchecked")
     public <T> T getColumn(int column, QualifiedType<T> type) {
         try {
-            return (T) columnMapperFor(type).map(rs, column, ctx);
+            return (T) columnMapperFor(column, type).map(rs, column, ctx);
         } catch (SQLException e) {
             throw new MappingException(e);
         }
@@ -94,15 +109,72 @@ public class RowViewImpl extends RowView {
     @SuppressWarnings("unchecked")
     public <T> T getColumn(String column, QualifiedType<T> type) {
         try {
-            return (T) columnMapperFor(type).map(rs, column, ctx);
+            int index = columnIndex(column);
+            ColumnMapper<?> mapper = columnMapperFor(index, type);
+            if (index < 0 || slotMapsByLabel[index]) {
+                return (T) mapper.map(rs, column, ctx);
+            }
+            return (T) mapper.map(rs, index, ctx);
+        } catch (SQLException e) {
+            throw new MappingException(e);
+        }
+    }
+
+    @Override
+    public RowView prepareColumn(String column, QualifiedType<?> type) {
+        try {
+            columnMapperFor(columnIndex(column), type);
+            return this;
         } catch (SQLException e) {
             throw new MappingException(e);
         }
     }
 
+    private int columnIndex(String column) throws SQLException {
+        Integer index = columnIndexes.get(column);
+        if (index == null) {
+            index = rs.findColumn(column);
+            columnIndexes.put(column, index);
+        }
+        return index;
+    }
+
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    private ColumnMapper<?> columnMapperFor(int column, QualifiedType<?> type) {
+        if (column < 0) {
+            // not a column; let the driver reject it
+            return columnMapperFor(type);
+        }
+        if (column >= slotTypes.length) {
+            slotTypes = Arrays.copyOf(slotTypes, column + 1);
+            slotMappers = Arrays.copyOf(slotMappers, column + 1);
+            slotMapsByLabel = Arrays.copyOf(slotMapsByLabel, column + 1);
+        } else if (slotTypes[column] == type || type.equals(slotTypes[column])) {
+            return slotMappers[column];
+        }
+        ColumnMapper<?> mapper = columnMapperFor(type);
+        slotTypes[column] = type;
+        slotMappers[column] = mapper;
+        slotMapsByLabel[column] = MAPS_BY_LABEL.get(mapper.getClass(), ctx);
+        return mapper;
+    }
+
     private ColumnMapper<?> columnMapperFor(QualifiedType<?> type) {
-        return columnMappers.computeIfAbsent(type, t ->
-                ctx.findColumnMapperFor(t)
-                        .orElseThrow(() -> new NoSuchMapperException("No column mapper registered for " + t)));
+        ColumnMapper<?> mapper = columnMappers.get(type);
+        if (mapper == null) {
+            mapper = ctx.findColumnMapperFor(type)
+                .orElseThrow(() -> new NoSuchMapperException("No column mapper registered for " + type));
+            columnMappers.put(type, mapper);
+        }
+        return mapper;
+    }
+
+    private static boolean overridesLabelMap(Class<?> mapperType) {
+        try {
+            return mapperType.getMethod("map", ResultSet.class, String.class, StatementContext.class)
+                .getDeclaringClass() != ColumnMapper.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
     }
 }
@@ -18,6 +18,7 @@ import java.sql.SQLException;
 
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * A plugin is given an opportunity to customize instances of various {@code Jdbi}
@@ -51,4 +52,17 @@ public interface JdbiPlugin {
     default Connection customizeConnection(Connection conn) throws SQLException {
         return conn;
     }
+
+    /**
+     * Initialize a physical connection the first time this Jdbi opens a handle on it, for connection state that
+     * outlives the handle, like driver type registrations. With a connection pool, later handles on the same
+     * pooled connection skip this method. Physical connections are told apart by
+     * {@link Connection#unwrap(Class) unwrapping} the acquired connection to {@code Connection}; Jdbi only does so
+     * once a plugin which overrides this method is installed.
+     * Invoked before {@link #customizeHandle(Handle)}.
+     * @param handle the first handle opened on the connection
+     * @throws SQLException something went wrong with the database
+     */
+    @Beta
+    default void customizeNewConnection(Handle handle) throws SQLException {}
 }
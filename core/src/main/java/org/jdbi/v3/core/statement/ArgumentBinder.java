@@ -16,7 +16,9 @@ package org.jdbi.v3.core.statement;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Optional;
 
+import org.jdbi.v3.core.argument.Argument;
 import org.jdbi.v3.core.internal.UtilityClassException;
 
 class ArgumentBinder {
@@ -25,10 +27,14 @@ class ArgumentBinder {
     }
 
     static void bind(ParsedParameters parameters, Binding binding, PreparedStatement statement, StatementContext context) {
+        bind(parameters, binding, statement, context, (index, name) -> binding.findForName(name, context));
+    }
+
+    static void bind(ParsedParameters parameters, Binding binding, PreparedStatement statement, StatementContext context, NamedLookup lookup) {
         if (parameters.isPositional()) {
             bindPositional(parameters, binding, statement, context);
         } else {
-            bindNamed(parameters, binding, statement, context);
+            bindNamed(parameters, binding, statement, context, lookup);
         }
     }
 
@@ -51,7 +57,7 @@ class ArgumentBinder {
         }
     }
 
-    private static void bindNamed(ParsedParameters params, Binding binding, PreparedStatement statement, StatementContext context) {
+    private static void bindNamed(ParsedParameters params, Binding binding, PreparedStatement statement, StatementContext context, NamedLookup lookup) {
         List<String> paramNames = params.getParameterNames();
 
         // best effort: compare empty to non-empty because we can't list the individual binding names (unless we expose a method to do so)
@@ -68,7 +74,7 @@ class ArgumentBinder {
             final String name = paramNames.get(i);
 
             try {
-                binding.findForName(name, context)
+                lookup.find(i, name)
                     .orElseThrow(() -> new UnableToCreateStatementException(String.format("Missing named parameter '%s'.", name), context))
                     .apply(i + 1, statement, context);
             } catch (SQLException e) {
@@ -76,4 +82,12 @@ class ArgumentBinder {
             }
         }
     }
+
+    /**
+     * Finds the argument for the named parameter at the given (0 based) index of the statement.
+     */
+    @FunctionalInterface
+    interface NamedLookup {
+        Optional<Argument> find(int index, String name);
+    }
 }
@@ -88,6 +88,17 @@ public class Binding {
         return Collections.unmodifiableSet(names);
     }
 
+    /**
+     * @return the argument bound to the given name, or null; named argument finders are not consulted
+     */
+    Argument getNamed(String name) {
+        return named.get(name);
+    }
+
+    List<NamedArgumentFinder> getNamedArgumentFinders() {
+        return namedArgumentFinder;
+    }
+
     /**
      * Look up an argument by position.
      *
@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.jdbi.v3.core.argument.Argument;
+import org.jdbi.v3.core.argument.NamedArgumentFinder;
+import org.jdbi.v3.core.argument.internal.ObjectPropertyNamedArgumentFinder;
+
+/**
+ * Binds many bindings of the same shape, such as the rows of a batch, to one statement.
+ * The plan remembers which argument finder of the binding supplied each named parameter,
+ * and asks that finder directly for the following bindings, instead of asking every
+ * finder in turn. A finder may only be skipped if the finder it stands in for is known
+ * to find the same names; otherwise the parameter is looked up as usual.
+ */
+class BindingPlan {
+    private static final int UNRESOLVED = -1;
+
+    private final ParsedParameters parameters;
+    private final int[] sources;
+    private final NamedArgumentFinder[][] skipped;
+
+    BindingPlan(ParsedParameters parameters) {
+        this.parameters = parameters;
+        this.sources = new int[parameters.getParameterCount()];
+        this.skipped = new NamedArgumentFinder[parameters.getParameterCount()][];
+        Arrays.fill(sources, UNRESOLVED);
+    }
+
+    boolean isFor(ParsedParameters parsedParameters) {
+        return parameters.equals(parsedParameters);
+    }
+
+    void bind(Binding binding, PreparedStatement statement, StatementContext context) {
+        ArgumentBinder.bind(parameters, binding, statement, context, (index, name) -> find(index, name, binding, context));
+    }
+
+    private Optional<Argument> find(int index, String name, Binding binding, StatementContext context) {
+        Argument named = binding.getNamed(name);
+        if (named != null) {
+            return Optional.of(named);
+        }
+
+        List<NamedArgumentFinder> finders = binding.getNamedArgumentFinders();
+        int source = sources[index];
+        if (source != UNRESOLVED && source < finders.size() && findSameNames(skipped[index], finders)) {
+            Optional<Argument> argument = finders.get(source).find(name, context);
+            if (argument.isPresent()) {
+                return argument;
+            }
+        }
+
+        for (int i = 0; i < finders.size(); i++) {
+            Optional<Argument> argument = finders.get(i).find(name, context);
+            if (argument.isPresent()) {
+                sources[index] = i;
+                skipped[index] = finders.subList(0, i).toArray(new NamedArgumentFinder[0]);
+                return argument;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean findSameNames(NamedArgumentFinder[] skipped, List<NamedArgumentFinder> finders) {
+        for (int i = 0; i < skipped.length; i++) {
+            if (!(skipped[i] instanceof ObjectPropertyNamedArgumentFinder)
+                || !((ObjectPropertyNamedArgumentFinder) skipped[i]).findsSameNamesAs(finders.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
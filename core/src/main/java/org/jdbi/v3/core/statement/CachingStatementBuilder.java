@@ -0,0 +1,272 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jdbi.v3.meta.Beta;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A StatementBuilder which keeps the prepared and callable statements of its handle open once they are closed,
+ * and hands them out again when the same SQL is prepared the same way. Statements are matched on their SQL,
+ * whether they are calls, whether they are updatable, and which generated keys they return.
+ * <p>
+ * A statement is only reused once it is closed, so statements that are open at the same time are never shared.
+ * Before a statement is reused, its parameters, batch and warnings are cleared, and its fetch size, maximum rows,
+ * maximum field size and query timeout are restored. Up to a fixed number of idle statements are kept, the least
+ * recently used ones are closed first, and all of them are closed with the handle.
+ * <p>
+ * Like its handle, a caching statement builder must not be used by several threads at once.
+ *
+ * @see CachingStatementBuilderFactory
+ */
+@Beta
+public final class CachingStatementBuilder implements StatementBuilder {
+    private static final Logger LOG = LoggerFactory.getLogger(CachingStatementBuilder.class);
+
+    private static final int READ_ONLY = 0;
+    private static final int UPDATABLE = 1;
+    private static final int GENERATED_KEYS = 2;
+    private static final int CALL = 3;
+
+    private final StatementBuilder delegate = new DefaultStatementBuilder();
+    private final CachingStatementBuilderFactory factory;
+    private final Map<Key, CachedStatement> idle;
+    private final Map<Statement, CachedStatement> inUse = new IdentityHashMap<>();
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private boolean closed;
+
+    CachingStatementBuilder(CachingStatementBuilderFactory factory, int maxSize) {
+        this.factory = factory;
+        this.idle = new LinkedHashMap<Key, CachedStatement>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CachedStatement> eldest) {
+                if (size() <= maxSize) {
+                    return false;
+                }
+                evictions++;
+                factory.evictions.increment();
+                factory.size.decrement();
+                discard(eldest.getValue().statement);
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public Statement create(Connection conn, StatementContext ctx) throws SQLException {
+        return delegate.create(conn, ctx);
+    }
+
+    @Override
+    public PreparedStatement create(Connection conn, String sql, StatementContext ctx) throws SQLException {
+        final Key key;
+        if (ctx.isReturningGeneratedKeys()) {
+            key = new Key(GENERATED_KEYS, sql, ctx.getGeneratedKeysColumnNames());
+        } else if (ctx.isConcurrentUpdatable()) {
+            key = new Key(UPDATABLE, sql, null);
+        } else {
+            key = new Key(READ_ONLY, sql, null);
+        }
+
+        CachedStatement cached = checkout(key);
+        if (cached == null) {
+            cached = checkin(key, delegate.create(conn, sql, ctx));
+        }
+        return cached.statement;
+    }
+
+    @Override
+    public CallableStatement createCall(Connection conn, String sql, StatementContext ctx) throws SQLException {
+        final Key key = new Key(CALL, sql, null);
+
+        CachedStatement cached = checkout(key);
+        if (cached == null) {
+            cached = checkin(key, delegate.createCall(conn, sql, ctx));
+        }
+        return (CallableStatement) cached.statement;
+    }
+
+    private CachedStatement checkout(Key key) {
+        CachedStatement cached = idle.remove(key);
+        if (cached == null) {
+            misses++;
+            factory.misses.increment();
+            return null;
+        }
+        hits++;
+        factory.hits.increment();
+        factory.size.decrement();
+        inUse.put(cached.statement, cached);
+        return cached;
+    }
+
+    private CachedStatement checkin(Key key, PreparedStatement statement) throws SQLException {
+        try {
+            CachedStatement cached = new CachedStatement(key, statement);
+            inUse.put(statement, cached);
+            return cached;
+        } catch (SQLException e) {
+            discard(statement);
+            throw e;
+        }
+    }
+
+    /**
+     * Keeps the statement for reuse, unless it is closed already, the handle is closed, or an equivalent statement
+     * is already waiting to be reused.
+     */
+    @Override
+    public void close(Connection conn, String sql, Statement stmt) throws SQLException {
+        if (stmt == null) {
+            return;
+        }
+        CachedStatement cached = inUse.remove(stmt);
+        if (cached == null) {
+            stmt.close();
+            return;
+        }
+        if (closed || idle.containsKey(cached.key) || !cached.reset()) {
+            discard(stmt);
+            return;
+        }
+        factory.size.increment();
+        idle.put(cached.key, cached);
+    }
+
+    /**
+     * Closes all idle statements. Statements still in use are closed when they are returned.
+     */
+    @Override
+    public void close(Connection conn) {
+        closed = true;
+        for (CachedStatement cached : idle.values()) {
+            factory.size.decrement();
+            discard(cached.statement);
+        }
+        idle.clear();
+    }
+
+    /**
+     * @return the usage of this handle's statement cache
+     */
+    public StatementCacheStats getStats() {
+        return new StatementCacheStats(hits, misses, evictions, idle.size());
+    }
+
+    private void discard(Statement stmt) {
+        try {
+            stmt.close();
+        } catch (SQLException e) {
+            LOG.debug("Failed to close cached statement", e);
+        }
+    }
+
+    private static final class Key {
+        private final int kind;
+        private final String sql;
+        private final String[] columnNames;
+        private final int hashCode;
+
+        Key(int kind, String sql, String[] columnNames) {
+            this.kind = kind;
+            this.sql = sql;
+            this.columnNames = columnNames == null || columnNames.length == 0 ? null : columnNames.clone();
+            this.hashCode = Objects.hash(kind, sql) * 31 + Arrays.hashCode(this.columnNames);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return kind == that.kind
+                && sql.equals(that.sql)
+                && Arrays.equals(columnNames, that.columnNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class CachedStatement {
+        private final Key key;
+        private final PreparedStatement statement;
+        private final int fetchSize;
+        private final int maxRows;
+        private final int maxFieldSize;
+        private final int queryTimeout;
+
+        CachedStatement(Key key, PreparedStatement statement) throws SQLException {
+            this.key = key;
+            this.statement = statement;
+            this.fetchSize = statement.getFetchSize();
+            this.maxRows = statement.getMaxRows();
+            this.maxFieldSize = statement.getMaxFieldSize();
+            this.queryTimeout = statement.getQueryTimeout();
+        }
+
+        /**
+         * @return whether the statement is ready for reuse
+         */
+        boolean reset() {
+            try {
+                if (statement.isClosed()) {
+                    return false;
+                }
+                statement.clearParameters();
+                statement.clearBatch();
+                statement.clearWarnings();
+                if (statement.getFetchSize() != fetchSize) {
+                    statement.setFetchSize(fetchSize);
+                }
+                if (statement.getMaxRows() != maxRows) {
+                    statement.setMaxRows(maxRows);
+                }
+                if (statement.getMaxFieldSize() != maxFieldSize) {
+                    statement.setMaxFieldSize(maxFieldSize);
+                }
+                if (statement.getQueryTimeout() != queryTimeout) {
+                    statement.setQueryTimeout(queryTimeout);
+                }
+                return true;
+            } catch (SQLException e) {
+                LOG.debug("Failed to reset cached statement, closing it", e);
+                return false;
+            }
+        }
+    }
+}
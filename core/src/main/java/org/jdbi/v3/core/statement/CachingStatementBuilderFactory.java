@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.Connection;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * Creates a {@link CachingStatementBuilder} for every handle, so each handle reuses its prepared statements:
+ * <pre>
+ * jdbi.setStatementBuilderFactory(new CachingStatementBuilderFactory());
+ * </pre>
+ * The factory keeps totals of the usage of all the caches it created, see {@link #getStats()}.
+ */
+@Beta
+public final class CachingStatementBuilderFactory implements StatementBuilderFactory {
+    /**
+     * The default maximum number of idle statements each handle keeps.
+     */
+    public static final int DEFAULT_MAX_SIZE = 64;
+
+    private final int maxSize;
+    final LongAdder hits = new LongAdder();
+    final LongAdder misses = new LongAdder();
+    final LongAdder evictions = new LongAdder();
+    final LongAdder size = new LongAdder();
+
+    /**
+     * Creates a factory whose handles keep up to {@value #DEFAULT_MAX_SIZE} idle statements each.
+     */
+    public CachingStatementBuilderFactory() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize the maximum number of idle statements each handle keeps
+     */
+    public CachingStatementBuilderFactory(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive, was " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public StatementBuilder createStatementBuilder(Connection conn) {
+        return new CachingStatementBuilder(this, maxSize);
+    }
+
+    /**
+     * @return the usage of the caches of all handles created with this factory, including closed ones
+     */
+    public StatementCacheStats getStats() {
+        return new StatementCacheStats(hits.sum(), misses.sum(), evictions.sum(), size.sum());
+    }
+}
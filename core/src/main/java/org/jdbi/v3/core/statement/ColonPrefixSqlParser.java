@@ -35,10 +35,13 @@ import static org.jdbi.v3.core.internal.lexer.ColonStatementLexer.QUOTED_TEXT;
  * <p>
  * This is the default SQL parser
  * </p>
+ * <p>
+ * Parsed statements are cached in the {@link JdbiCaches} cache named after this class.
+ * </p>
  */
 public class ColonPrefixSqlParser implements SqlParser {
     private static final JdbiCache<String, ParsedSql> PARSED_SQL_CACHE =
-        JdbiCaches.declare(ColonPrefixSqlParser::internalParse);
+        JdbiCaches.declare(ColonPrefixSqlParser.class.getName(), ColonPrefixSqlParser::internalParse);
 
     @Override
     public ParsedSql parse(String sql, StatementContext ctx) {
@@ -13,8 +13,13 @@
  */
 package org.jdbi.v3.core.statement;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.Token;
+import org.jdbi.v3.core.config.JdbiCache;
+import org.jdbi.v3.core.config.JdbiCaches;
 import org.jdbi.v3.core.internal.lexer.DefineStatementLexer;
 import org.jdbi.v3.core.statement.internal.ErrorListener;
 
@@ -31,43 +36,91 @@ import static org.jdbi.v3.core.internal.lexer.DefineStatementLexer.QUOTED_TEXT;
  * <code>&lt;name&gt;</code> with the string value of the named attribute.
  * Attribute names may contain letters (a-z, A-Z), digits (0-9), or underscores
  * (<code>_</code>).
+ * <p>
+ * Each template is lexed once into its literal text and attribute names, which are cached in the
+ * {@link JdbiCaches} cache named after this class. Templates without attributes render as-is.
+ * </p>
  */
 public class DefinedAttributeTemplateEngine implements TemplateEngine {
+    private static final JdbiCache<String, PreparedTemplate> TEMPLATE_CACHE =
+        JdbiCaches.declare(DefinedAttributeTemplateEngine.class.getName(), DefinedAttributeTemplateEngine::prepare);
+
     @Override
     public String render(String template, StatementContext ctx) {
-        StringBuilder b = new StringBuilder();
+        try {
+            return TEMPLATE_CACHE.get(template, ctx).render(ctx);
+        } catch (RuntimeException e) {
+            throw new UnableToCreateStatementException("Error rendering SQL template: '" + template + "'", e, ctx);
+        }
+    }
+
+    private static PreparedTemplate prepare(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> attributes = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
         DefineStatementLexer lexer = new DefineStatementLexer(CharStreams.fromString(template));
         lexer.addErrorListener(new ErrorListener());
-        try {
-            Token t = lexer.nextToken();
-            while (t.getType() != EOF) {
-                switch (t.getType()) {
-                    case COMMENT:
-                    case LITERAL:
-                    case QUOTED_TEXT:
-                    case DOUBLE_QUOTED_TEXT:
-                        b.append(t.getText());
-                        break;
-                    case DEFINE:
-                        String text = t.getText();
-                        String key = text.substring(1, text.length() - 1);
-                        Object value = ctx.getAttribute(key);
-                        if (value == null) {
-                            throw new UnableToCreateStatementException("Undefined attribute for token '" + text + "'", ctx);
-                        }
-                        b.append(value);
-                        break;
-                    case ESCAPED_TEXT:
-                        b.append(t.getText().substring(1));
-                        break;
-                    default:
-                        break;
+        Token t = lexer.nextToken();
+        while (t.getType() != EOF) {
+            switch (t.getType()) {
+                case COMMENT:
+                case LITERAL:
+                case QUOTED_TEXT:
+                case DOUBLE_QUOTED_TEXT:
+                    literal.append(t.getText());
+                    break;
+                case DEFINE:
+                    String text = t.getText();
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    attributes.add(text.substring(1, text.length() - 1));
+                    break;
+                case ESCAPED_TEXT:
+                    literal.append(t.getText().substring(1));
+                    break;
+                default:
+                    break;
+            }
+            t = lexer.nextToken();
+        }
+        literals.add(literal.toString());
+        return new PreparedTemplate(literals, attributes);
+    }
+
+    /**
+     * A lexed template: {@code literals[i]} precedes the attribute {@code attributes[i]}, and the last literal
+     * follows the last attribute.
+     */
+    private static final class PreparedTemplate {
+        private final String[] literals;
+        private final String[] attributes;
+        private final int literalLength;
+
+        PreparedTemplate(List<String> literals, List<String> attributes) {
+            this.literals = literals.toArray(new String[0]);
+            this.attributes = attributes.toArray(new String[0]);
+            int length = 0;
+            for (String literal : this.literals) {
+                length += literal.length();
+            }
+            this.literalLength = length;
+        }
+
+        String render(StatementContext ctx) {
+            if (attributes.length == 0) {
+                return literals[0];
+            }
+
+            StringBuilder b = new StringBuilder(literalLength + 16 * attributes.length);
+            for (int i = 0; i < attributes.length; i++) {
+                b.append(literals[i]);
+                Object value = ctx.getAttribute(attributes[i]);
+                if (value == null) {
+                    throw new UnableToCreateStatementException("Undefined attribute for token '<" + attributes[i] + ">'", ctx);
                 }
-                t = lexer.nextToken();
+                b.append(value);
             }
-            return b.toString();
-        } catch (RuntimeException e) {
-            throw new UnableToCreateStatementException("Error rendering SQL template: '" + template + "'", e, ctx);
+            return b.append(literals[attributes.length]).toString();
         }
     }
 }
@@ -32,10 +32,12 @@ import static org.jdbi.v3.core.internal.lexer.HashStatementLexer.QUOTED_TEXT;
 /**
  * SQL parser which recognizes named parameter tokens of the form
  * <code>#tokenName</code>.
+ * <p>
+ * Parsed statements are cached in the {@link JdbiCaches} cache named after this class.
  */
 public class HashPrefixSqlParser implements SqlParser {
     private static final JdbiCache<String, ParsedSql> PARSED_SQL_CACHE =
-        JdbiCaches.declare(HashPrefixSqlParser::internalParse);
+        JdbiCaches.declare(HashPrefixSqlParser.class.getName(), HashPrefixSqlParser::internalParse);
 
     @Override
     public ParsedSql parse(String sql, StatementContext ctx) {
@@ -121,6 +121,11 @@ public class ParsedSql {
             return this;
         }
 
+        Builder append(CharSequence sqlFragment, int start, int end) {
+            sql.append(sqlFragment, start, end);
+            return this;
+        }
+
         /**
          * Records a positional parameters, and appends a <code>?</code> to the
          * SQL string.
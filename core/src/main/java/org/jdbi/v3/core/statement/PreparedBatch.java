@@ -29,6 +29,7 @@ import org.jdbi.v3.core.result.ResultProducer;
 import org.jdbi.v3.core.result.ResultProducers;
 import org.jdbi.v3.core.result.ResultSetScanner;
 import org.jdbi.v3.core.result.UnableToProduceResultException;
+import org.jdbi.v3.meta.Beta;
 
 import static org.jdbi.v3.core.result.ResultProducers.returningGeneratedKeys;
 
@@ -44,10 +45,21 @@ import static org.jdbi.v3.core.result.ResultProducers.returningGeneratedKeys;
  *
  * An entire batch can be bound and added in one go with {@link PreparedBatch#add(Map)}
  * or {@link PreparedBatch#add(Object...)}.
+ *
+ * Very large batches can be streamed with {@link PreparedBatch#setFlushThreshold(int)},
+ * so that the bindings are not all held in memory until the batch is executed.
  */
 public class PreparedBatch extends SqlStatement<PreparedBatch> implements ResultBearing {
     private final List<Binding> bindings = new ArrayList<>();
 
+    private BindingPlan bindingPlan;
+
+    private int flushThreshold;
+    private BindingPlan streamingPlan;
+    private int unflushedRows;
+    private int streamedRows;
+    private final List<int[]> flushedUpdateCounts = new ArrayList<>();
+
     public PreparedBatch(Handle handle, String sql) {
         super(handle, sql);
     }
@@ -108,6 +120,9 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
      * @return value returned by the result producer.
      */
     public <R> R execute(ResultProducer<R> producer) {
+        if (flushThreshold > 0) {
+            throw new IllegalStateException("A streaming batch only reports update counts, use execute() instead");
+        }
         try {
             return producer.produce(() -> internalBatchExecute().stmt, getContext());
         } catch (SQLException e) {
@@ -125,6 +140,30 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
             add();
         }
 
+        if (streamingPlan != null) {
+            return finishStreaming();
+        }
+
+        BindingPlan plan = prepareStatement();
+
+        try {
+            try {
+                for (Binding binding : bindings) {
+                    getContext().setBinding(binding);
+                    plan.bind(binding, stmt, getContext());
+                    stmt.addBatch();
+                }
+            } catch (SQLException e) {
+                throw new UnableToExecuteStatementException("Exception while binding parameters", e, getContext());
+            }
+
+            return new ExecutedBatch(stmt, executeBatch());
+        } finally {
+            bindings.clear();
+        }
+    }
+
+    private BindingPlan prepareStatement() {
         beforeTemplating();
 
         String renderedSql = getConfig(SqlStatements.class)
@@ -136,49 +175,116 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
                 .getSqlParser()
                 .parse(renderedSql, getContext());
         String sql = parsedSql.getSql();
-        ParsedParameters parsedParameters = parsedSql.getParameters();
         getContext().setParsedSql(parsedSql);
 
         try {
-            try {
-                StatementBuilder statementBuilder = getHandle().getStatementBuilder();
-                @SuppressWarnings("PMD.CloseResource")
-                Connection connection = getHandle().getConnection();
-                stmt = statementBuilder.create(connection, sql, getContext());
+            StatementBuilder statementBuilder = getHandle().getStatementBuilder();
+            @SuppressWarnings("PMD.CloseResource")
+            Connection connection = getHandle().getConnection();
+            PreparedStatement preparedStatement = statementBuilder.create(connection, sql, getContext());
+            stmt = preparedStatement;
+
+            addCleanable(() -> statementBuilder.close(connection, sql, preparedStatement));
+            getConfig(SqlStatements.class).customize(stmt);
+        } catch (SQLException e) {
+            throw new UnableToCreateStatementException(e, getContext());
+        }
 
-                addCleanable(() -> statementBuilder.close(connection, sql, stmt));
-                getConfig(SqlStatements.class).customize(stmt);
-            } catch (SQLException e) {
-                throw new UnableToCreateStatementException(e, getContext());
-            }
+        beforeBinding();
 
-            beforeBinding();
+        // the parsed SQL is cached, so executing the same statement again reuses the plan
+        if (bindingPlan == null || !bindingPlan.isFor(parsedSql.getParameters())) {
+            bindingPlan = new BindingPlan(parsedSql.getParameters());
+        }
+        return bindingPlan;
+    }
 
-            try {
-                for (Binding binding : bindings) {
-                    getContext().setBinding(binding);
-                    ArgumentBinder.bind(parsedParameters, binding, stmt, getContext());
-                    stmt.addBatch();
-                }
-            } catch (SQLException e) {
-                throw new UnableToExecuteStatementException("Exception while binding parameters", e, getContext());
-            }
+    private int[] executeBatch() {
+        beforeExecution();
 
-            beforeExecution();
+        try {
+            final int[] rs = SqlLoggerUtil.wrap(stmt::executeBatch, getContext(), getConfig(SqlStatements.class).getSqlLogger());
 
-            try {
-                final int[] rs = SqlLoggerUtil.wrap(stmt::executeBatch, getContext(), getConfig(SqlStatements.class).getSqlLogger());
+            afterExecution();
 
-                afterExecution();
+            getContext().setBinding(new Binding());
 
-                getContext().setBinding(new Binding());
+            return rs;
+        } catch (SQLException e) {
+            throw new UnableToExecuteStatementException(Batch.mungeBatchException(e), getContext());
+        }
+    }
 
-                return new ExecutedBatch(stmt, rs);
-            } catch (SQLException e) {
-                throw new UnableToExecuteStatementException(Batch.mungeBatchException(e), getContext());
+    /**
+     * Streams batches of rows to the database as they are added, instead of holding on to every
+     * binding until the batch is executed. Each {@link #add()} binds the row directly into the
+     * prepared statement, and every {@code rows} rows the pending rows are executed.
+     * {@link #execute()} executes the remaining rows and returns the update counts of all of them.
+     * <p>
+     * The statement is rendered and prepared when the first row is added, so any attributes must be
+     * defined before that. A streaming batch does not support result producers such as
+     * {@link #executeAndReturnGeneratedKeys(String...)}, since the results of earlier flushes are
+     * gone by the time the batch is executed. If executing a flush fails, the rows of earlier flushes
+     * are not rolled back unless the batch runs in a transaction.
+     *
+     * @param rows the number of rows to execute at a time
+     * @return this
+     */
+    @Beta
+    public PreparedBatch setFlushThreshold(int rows) {
+        if (rows < 1) {
+            throw new IllegalArgumentException("flush threshold must be positive, was " + rows);
+        }
+        if (!bindings.isEmpty() || streamingPlan != null) {
+            throw new IllegalStateException("The flush threshold must be set before adding to the batch");
+        }
+        this.flushThreshold = rows;
+        return this;
+    }
+
+    private void stream(Binding binding) {
+        if (streamingPlan == null) {
+            streamingPlan = prepareStatement();
+        }
+
+        try {
+            getContext().setBinding(binding);
+            streamingPlan.bind(binding, stmt, getContext());
+            stmt.addBatch();
+        } catch (SQLException e) {
+            throw new UnableToExecuteStatementException("Exception while binding parameters", e, getContext());
+        }
+
+        streamedRows++;
+        unflushedRows++;
+        if (unflushedRows >= flushThreshold) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        flushedUpdateCounts.add(executeBatch());
+        unflushedRows = 0;
+    }
+
+    private ExecutedBatch finishStreaming() {
+        try {
+            if (unflushedRows > 0) {
+                flush();
+            }
+
+            int[] updateCounts = new int[flushedUpdateCounts.stream().mapToInt(counts -> counts.length).sum()];
+            int pos = 0;
+            for (int[] counts : flushedUpdateCounts) {
+                System.arraycopy(counts, 0, updateCounts, pos, counts.length);
+                pos += counts.length;
             }
+            return new ExecutedBatch(stmt, updateCounts);
         } finally {
-            bindings.clear();
+            streamingPlan = null;
+            unflushedRows = 0;
+            streamedRows = 0;
+            flushedUpdateCounts.clear();
         }
     }
 
@@ -192,7 +298,11 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
             throw new IllegalStateException("Attempt to add() an empty batch, you probably didn't mean to do this "
                     + "- call add() *after* setting batch parameters");
         }
-        bindings.add(currentBinding);
+        if (flushThreshold > 0) {
+            stream(currentBinding);
+        } else {
+            bindings.add(currentBinding);
+        }
         getContext().setBinding(new Binding());
         return this;
     }
@@ -228,7 +338,7 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
      * @return the number of bindings which are in this batch
      */
     public int size() {
-        return bindings.size();
+        return flushThreshold > 0 ? streamedRows : bindings.size();
     }
 
     private static class ExecutedBatch {
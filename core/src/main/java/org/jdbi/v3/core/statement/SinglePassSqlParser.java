@@ -0,0 +1,170 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import org.jdbi.v3.core.config.JdbiCache;
+import org.jdbi.v3.core.config.JdbiCaches;
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * SQL parser which recognizes the same syntax as {@link ColonPrefixSqlParser} or {@link HashPrefixSqlParser},
+ * and produces the same {@link ParsedSql}, in a single hand-written pass over the statement instead of through
+ * a generated lexer. Quoted text, double quoted identifiers, comments, escapes, <code>::</code> casts and
+ * <code>??</code> operators are left alone.
+ * <p>
+ * Parsing is cheap enough that statements which are rarely repeated, such as those with expanded lists of
+ * varying size, no longer dominate parsing time. Parsed statements are still cached, in the {@link JdbiCaches}
+ * caches named after this class and the parameter prefix.
+ * </p>
+ */
+@Beta
+public final class SinglePassSqlParser implements SqlParser {
+    private static final JdbiCache<String, ParsedSql> COLON_CACHE =
+        JdbiCaches.declare(SinglePassSqlParser.class.getName() + ".colon", sql -> parse(sql, ':'));
+    private static final JdbiCache<String, ParsedSql> HASH_CACHE =
+        JdbiCaches.declare(SinglePassSqlParser.class.getName() + ".hash", sql -> parse(sql, '#'));
+
+    private final char prefix;
+    private final JdbiCache<String, ParsedSql> cache;
+
+    private SinglePassSqlParser(char prefix, JdbiCache<String, ParsedSql> cache) {
+        this.prefix = prefix;
+        this.cache = cache;
+    }
+
+    /**
+     * @return a parser for named parameters of the form <code>:name</code>, like {@link ColonPrefixSqlParser}
+     */
+    public static SinglePassSqlParser colonPrefix() {
+        return new SinglePassSqlParser(':', COLON_CACHE);
+    }
+
+    /**
+     * @return a parser for named parameters of the form <code>#name</code>, like {@link HashPrefixSqlParser}
+     */
+    public static SinglePassSqlParser hashPrefix() {
+        return new SinglePassSqlParser('#', HASH_CACHE);
+    }
+
+    @Override
+    public ParsedSql parse(String sql, StatementContext ctx) {
+        return cache.get(sql, ctx);
+    }
+
+    @Override
+    public String nameParameter(String rawName, StatementContext ctx) {
+        return prefix + rawName;
+    }
+
+    private static ParsedSql parse(String sql, char prefix) {
+        ParsedSql.Builder parsedSql = ParsedSql.builder();
+        int length = sql.length();
+        // start of the literal text not yet appended
+        int literal = 0;
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '/') {
+                i = skipComment(sql, i);
+            } else if (c == '\'') {
+                i = skipQuotedText(sql, i);
+            } else if (c == '"') {
+                i = skipDoubleQuotedText(sql, i);
+            } else if (c == '\\' && i + 1 < length) {
+                // drop the backslash, keep the escaped character as literal text
+                parsedSql.append(sql, literal, i);
+                literal = i + 1;
+                i += 1 + Character.charCount(sql.codePointAt(i + 1));
+            } else if (c == '?') {
+                if (i + 1 < length && sql.charAt(i + 1) == '?') {
+                    i += 2;
+                } else {
+                    parsedSql.append(sql, literal, i).appendPositionalParameter();
+                    i++;
+                    literal = i;
+                }
+            } else if (c == ':' && prefix == ':' && i + 1 < length && sql.charAt(i + 1) == ':') {
+                i += 2;
+            } else if (c == prefix) {
+                int end = skipName(sql, i + 1);
+                if (end > i + 1) {
+                    parsedSql.append(sql, literal, i).appendNamedParameter(sql.substring(i + 1, end));
+                    literal = end;
+                }
+                i = Math.max(end, i + 1);
+            } else {
+                i++;
+            }
+        }
+        return parsedSql.append(sql, literal, length).build();
+    }
+
+    private static int skipComment(String sql, int start) {
+        if (sql.startsWith("/*", start)) {
+            int end = sql.indexOf("*/", start + 2);
+            if (end >= 0) {
+                return end + 2;
+            }
+        }
+        return start + 1;
+    }
+
+    private static int skipQuotedText(String sql, int start) {
+        // a quote after a backslash may be escaped or may close the text; the longest match wins
+        int lastQuote = -1;
+        for (int i = start + 1; i < sql.length(); i++) {
+            if (sql.charAt(i) == '\'') {
+                if (sql.charAt(i - 1) != '\\' || i - 1 == start) {
+                    return i + 1;
+                }
+                lastQuote = i;
+            }
+        }
+        return lastQuote < 0 ? start + 1 : lastQuote + 1;
+    }
+
+    private static int skipDoubleQuotedText(String sql, int start) {
+        int end = sql.indexOf('"', start + 1);
+        return end > start + 1 ? end + 1 : start + 1;
+    }
+
+    private static int skipName(String sql, int start) {
+        int length = sql.length();
+        int i = start;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (isNameChar(c)) {
+                i++;
+            } else if (c == '?' && i + 1 < length && sql.charAt(i + 1) == '.') {
+                i += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(sql.charAt(i + 1))) {
+                i += 2;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    private static boolean isNameChar(char c) {
+        if (c > '\u007f') {
+            // a lone low surrogate counts too, as it does for the generated lexers
+            return !Character.isHighSurrogate(c);
+        }
+        return c >= 'a' && c <= 'z'
+            || c >= 'A' && c <= 'Z'
+            || c >= '0' && c <= '9'
+            || c == '_' || c == '$' || c == '.';
+    }
+}
@@ -21,7 +21,8 @@ import java.sql.Statement;
 
 /**
  * Used to convert translated SQL into a prepared statement. The default implementation
- * created by {@link DefaultStatementBuilder#FACTORY} creates a new statement on every call.
+ * created by {@link DefaultStatementBuilder#FACTORY} creates a new statement on every call,
+ * while {@link CachingStatementBuilderFactory} creates builders which reuse prepared statements.
  *
  * A StatementBuilder is always associated with exactly one Handle instance
  *
@@ -0,0 +1,80 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * A snapshot of the usage of the prepared statement caches of {@link CachingStatementBuilder}s.
+ *
+ * @see CachingStatementBuilder#getStats()
+ * @see CachingStatementBuilderFactory#getStats()
+ */
+@Beta
+@SuppressWarnings("PMD.DataClass")
+public final class StatementCacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long size;
+
+    StatementCacheStats(long hitCount, long missCount, long evictionCount, long size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    /**
+     * @return the number of statements that were reused from the cache
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of statements that had to be prepared
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the number of idle statements closed to keep caches within their size limit
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return the number of idle statements in the cache
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return the fraction of statements that were reused from the cache, or {@code 1.0} if none were requested
+     */
+    public double getHitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    @Override
+    public String toString() {
+        return "StatementCacheStats{hits=" + hitCount + ", misses=" + missCount
+            + ", evictions=" + evictionCount + ", size=" + size + "}";
+    }
+}
@@ -14,26 +14,41 @@
 package org.jdbi.v3.core.transaction;
 
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.HandleCallback;
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * A TransactionHandler that automatically retries transactions that fail due to
  * serialization failures, which can generally be resolved by automatically
  * retrying the transaction.  Any HandleCallback used under this runner
  * should be aware that it may be invoked multiple times and should be idempotent.
+ * <p>
+ * How long to wait between attempts is decided by the configured {@link TransactionRetryPolicy}, and a
+ * {@link TransactionRetryBudget} can cap the rate of retries across every handle of a {@link org.jdbi.v3.core.Jdbi}.
+ * {@link #getStats()} reports the retries done through this runner.
  */
 public class SerializableTransactionRunner extends DelegatingTransactionHandler implements TransactionHandler {
     /* http://www.postgresql.org/docs/9.1/static/errcodes-appendix.html */
     private static final String SQLSTATE_TXN_SERIALIZATION_FAILED = "40001";
 
+    private final LongAdder transactions = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+    private final LongAdder budgetRejections = new LongAdder();
+    private final LongAdder backoffNanos = new LongAdder();
+
     public SerializableTransactionRunner() {
         this(new LocalTransactionHandler());
     }
@@ -48,6 +63,8 @@ public class SerializableTransactionRunner extends DelegatingTransactionHandler
                                                     HandleCallback<R, X> callback) throws X {
         final Configuration config = handle.getConfig(Configuration.class);
         int attempts = 1 + config.maxRetries;
+        long start = System.nanoTime();
+        transactions.increment();
 
         Deque<X> failures = new ArrayDeque<>();
         while (true) {
@@ -68,15 +85,39 @@ public class SerializableTransactionRunner extends DelegatingTransactionHandler
 
                 // no more attempts left? Throw ALL the exceptions! \o/
                 attempts -= 1;
-                if (attempts <= 0) {
+                if (attempts <= 0 || !backOff(config, failures.size(), start)) {
+                    exhausted.increment();
                     X toThrow = failures.removeLast();
                     while (!failures.isEmpty()) {
                         toThrow.addSuppressed(failures.removeLast());
                     }
                     throw toThrow;
                 }
+                retries.increment();
+            }
+        }
+    }
+
+    private boolean backOff(Configuration config, int failures, long start) {
+        Optional<Duration> delay = config.retryPolicy.nextDelay(failures, Duration.ofNanos(System.nanoTime() - start));
+        if (!delay.isPresent()) {
+            return false;
+        }
+        if (config.retryBudget != null && !config.retryBudget.tryAcquire()) {
+            budgetRejections.increment();
+            return false;
+        }
+        long nanos = delay.get().toNanos();
+        if (nanos > 0) {
+            backoffNanos.add(nanos);
+            try {
+                TimeUnit.NANOSECONDS.sleep(nanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
             }
         }
+        return true;
     }
 
     @Override
@@ -92,6 +133,15 @@ public class SerializableTransactionRunner extends DelegatingTransactionHandler
         }
     }
 
+    /**
+     * @return a snapshot of the retries done by this runner, across all handles using it
+     */
+    @Beta
+    public TransactionRetryStats getStats() {
+        return new TransactionRetryStats(transactions.sum(), retries.sum(), exhausted.sum(), budgetRejections.sum(),
+            Duration.ofNanos(backoffNanos.sum()));
+    }
+
     /**
      * @param expectedSqlState the expected SQL state
      * @param throwable the Throwable to test
@@ -124,6 +174,8 @@ public class SerializableTransactionRunner extends DelegatingTransactionHandler
         private String serializationFailureSqlState = SQLSTATE_TXN_SERIALIZATION_FAILED;
         private Consumer<List<Exception>> onFailure = NOP;
         private Consumer<List<Exception>> onSuccess = NOP;
+        private TransactionRetryPolicy retryPolicy = TransactionRetryPolicy.immediately();
+        private TransactionRetryBudget retryBudget;
 
         /**
          * @param maxRetries number of retry attempts before aborting
@@ -165,13 +217,37 @@ public class SerializableTransactionRunner extends DelegatingTransactionHandler
             return this;
         }
 
+        /**
+         * @param retryPolicy decides how long to wait before each retry, or to give up early; defaults to
+         * {@link TransactionRetryPolicy#immediately()}
+         * @return this
+         */
+        @Beta
+        public Configuration setRetryPolicy(TransactionRetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
+        /**
+         * @param retryBudget the token bucket every retry has to take a token from, or {@code null} for no limit.
+         * The budget is shared by every handle using this configuration.
+         * @return this
+         */
+        @Beta
+        public Configuration setRetryBudget(TransactionRetryBudget retryBudget) {
+            this.retryBudget = retryBudget;
+            return this;
+        }
+
         @Override
         public Configuration createCopy() {
             return new Configuration()
                     .setMaxRetries(maxRetries)
                     .setSerializationFailureSqlState(serializationFailureSqlState)
                     .setOnFailure(onFailure)
-                    .setOnSuccess(onSuccess);
+                    .setOnSuccess(onSuccess)
+                    .setRetryPolicy(retryPolicy)
+                    .setRetryBudget(retryBudget);
         }
     }
 }
@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.transaction;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * A token bucket that caps how often {@link SerializableTransactionRunner} may retry, across every handle that
+ * shares the configuration it is set on. Each retry takes a token; the bucket holds at most {@code maxRetries} tokens
+ * and refills at a steady rate of {@code maxRetries} tokens per {@code period}. When the bucket is empty the
+ * failed transaction is not retried, so that a conflict storm does not multiply the load on the database.
+ *
+ * @see SerializableTransactionRunner.Configuration#setRetryBudget(TransactionRetryBudget)
+ */
+@Beta
+public final class TransactionRetryBudget {
+    private final LongSupplier clock;
+    private final long interval;
+    private final long burst;
+    // the time at which the bucket is full again, as a System.nanoTime value
+    private final AtomicLong fullAt;
+
+    /**
+     * @param maxRetries the size of the bucket, and the number of tokens added over each period
+     * @param period the time it takes to refill an empty bucket
+     */
+    public TransactionRetryBudget(int maxRetries, Duration period) {
+        this(maxRetries, period, System::nanoTime);
+    }
+
+    TransactionRetryBudget(int maxRetries, Duration period, LongSupplier clock) {
+        if (maxRetries <= 0 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("A retry budget needs a positive size and period, got "
+                + maxRetries + " per " + period);
+        }
+        this.clock = clock;
+        this.interval = Math.max(1, period.toNanos() / maxRetries);
+        this.burst = interval * maxRetries;
+        this.fullAt = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * Take a token from the bucket, if there is one.
+     *
+     * @return whether a retry is allowed
+     */
+    public boolean tryAcquire() {
+        long now = clock.getAsLong();
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + interval;
+            if (next - now > burst) {
+                return false;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return the number of whole tokens left in the bucket
+     */
+    public long getAvailable() {
+        long missing = Math.max(0, fullAt.get() - clock.getAsLong());
+        return (burst - missing) / interval;
+    }
+}
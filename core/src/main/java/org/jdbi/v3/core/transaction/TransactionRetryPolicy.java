@@ -0,0 +1,80 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.transaction;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * Decides whether, and after how long, {@link SerializableTransactionRunner} retries a transaction that failed
+ * with a serialization failure. The policy is consulted only while the configured maximum number of retries has
+ * not been reached.
+ *
+ * @see SerializableTransactionRunner.Configuration#setRetryPolicy(TransactionRetryPolicy)
+ */
+@Beta
+@FunctionalInterface
+public interface TransactionRetryPolicy {
+    /**
+     * @param failures the number of failed attempts so far, at least 1
+     * @param elapsed the time since the first attempt started
+     * @return the delay before the next attempt, or empty to give up and throw the failures
+     */
+    Optional<Duration> nextDelay(int failures, Duration elapsed);
+
+    /**
+     * Returns a policy that gives up once the next attempt would start later than the given deadline after the
+     * first attempt.
+     *
+     * @param deadline the time budget for all attempts together
+     * @return a policy limited to the deadline
+     */
+    default TransactionRetryPolicy withDeadline(Duration deadline) {
+        return (failures, elapsed) -> nextDelay(failures, elapsed)
+            .filter(delay -> elapsed.plus(delay).compareTo(deadline) <= 0);
+    }
+
+    /**
+     * @return a policy that retries right away; this is the default
+     */
+    static TransactionRetryPolicy immediately() {
+        return (failures, elapsed) -> Optional.of(Duration.ZERO);
+    }
+
+    /**
+     * Returns a policy that waits for exponentially growing delays with full jitter: the delay before retry {@code n}
+     * is picked uniformly between zero and {@code min(cap, base * 2^(n-1))}, so that clients that conflicted with
+     * each other do not retry in lockstep.
+     *
+     * @param base the upper bound of the first delay
+     * @param cap the largest upper bound of any delay
+     * @return the backoff policy
+     */
+    static TransactionRetryPolicy exponentialBackoff(Duration base, Duration cap) {
+        if (base.isNegative() || base.isZero() || cap.compareTo(base) < 0) {
+            throw new IllegalArgumentException("Backoff needs 0 < base <= cap, got base " + base + " and cap " + cap);
+        }
+        final long baseNanos = base.toNanos();
+        final long capNanos = cap.toNanos();
+        return (failures, elapsed) -> {
+            // once the doubled delay passes the cap it stays there, and shifting further would overflow
+            int shift = Math.min(failures - 1, Long.numberOfLeadingZeros(baseNanos) - 1);
+            long bound = Math.min(capNanos, baseNanos << shift);
+            return Optional.of(Duration.ofNanos(ThreadLocalRandom.current().nextLong(bound + 1)));
+        };
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.transaction;
+
+import java.time.Duration;
+
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * A snapshot of the retries done by a {@link SerializableTransactionRunner}.
+ *
+ * @see SerializableTransactionRunner#getStats()
+ */
+@Beta
+@SuppressWarnings("PMD.DataClass")
+public final class TransactionRetryStats {
+    private final long transactionCount;
+    private final long retryCount;
+    private final long exhaustedCount;
+    private final long budgetRejectionCount;
+    private final Duration backoffTime;
+
+    TransactionRetryStats(long transactionCount, long retryCount, long exhaustedCount, long budgetRejectionCount, Duration backoffTime) {
+        this.transactionCount = transactionCount;
+        this.retryCount = retryCount;
+        this.exhaustedCount = exhaustedCount;
+        this.budgetRejectionCount = budgetRejectionCount;
+        this.backoffTime = backoffTime;
+    }
+
+    /**
+     * @return the number of transactions run, not counting retries
+     */
+    public long getTransactionCount() {
+        return transactionCount;
+    }
+
+    /**
+     * @return the number of times a transaction was retried after a serialization failure
+     */
+    public long getRetryCount() {
+        return retryCount;
+    }
+
+    /**
+     * @return the number of transactions that failed with a serialization failure and were not retried again,
+     * because of the retry limit, the retry policy or the retry budget
+     */
+    public long getExhaustedCount() {
+        return exhaustedCount;
+    }
+
+    /**
+     * @return the number of retries refused because the retry budget was empty
+     */
+    public long getBudgetRejectionCount() {
+        return budgetRejectionCount;
+    }
+
+    /**
+     * @return the total time spent waiting between attempts
+     */
+    public Duration getBackoffTime() {
+        return backoffTime;
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionRetryStats{transactions=" + transactionCount + ", retries=" + retryCount
+            + ", exhausted=" + exhaustedCount + ", budgetRejections=" + budgetRejectionCount
+            + ", backoffTime=" + backoffTime + "}";
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestAsyncJdbi {
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule().withSomething();
+
+    private AsyncJdbi async;
+
+    @Before
+    public void setUp() {
+        async = AsyncJdbi.create(dbRule.getJdbi(), 2, 1);
+    }
+
+    @After
+    public void tearDown() {
+        async.close();
+    }
+
+    @Test
+    public void testCallbacksRunOnPoolThreads() throws Exception {
+        async.useTransaction(h -> h.execute("insert into something (id, name) values (1, 'one')"))
+            .toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+        String result = async.withHandle(h -> Thread.currentThread().getName() + ":"
+                + h.select("select name from something where id = 1").mapTo(String.class).one())
+            .toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+        assertThat(result).startsWith("jdbi-async-").endsWith(":one");
+    }
+
+    @Test
+    public void testCallbackDoesNotJoinCallerHandle() throws Exception {
+        dbRule.getJdbi().useHandle(outer -> {
+            Handle inner = async.withHandle(h -> h).toCompletableFuture().get(10, TimeUnit.SECONDS);
+            assertThat(inner).isNotSameAs(outer);
+            assertThat(inner.isClosed()).isTrue();
+        });
+    }
+
+    @Test
+    public void testExceptionCompletesStage() {
+        CompletionStage<Object> stage = async.inTransaction(h -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertThatThrownBy(() -> stage.toCompletableFuture().get(10, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testLoadShedding() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<?> first = async.useHandle(h -> release.await()).toCompletableFuture();
+        CompletableFuture<?> second = async.useHandle(h -> release.await()).toCompletableFuture();
+        CompletableFuture<?> queued = async.useHandle(h -> {}).toCompletableFuture();
+        CompletableFuture<?> shed = async.useHandle(h -> {}).toCompletableFuture();
+
+        assertThat(shed).isCompletedExceptionally();
+        assertThatThrownBy(shed::get).hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(async.getRejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        CompletableFuture.allOf(first, second, queued).get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testClosedRejectsWithoutShedding() {
+        async.close();
+
+        CompletableFuture<?> stage = async.useHandle(h -> {}).toCompletableFuture();
+
+        assertThat(stage).isCompletedExceptionally();
+        assertThatThrownBy(stage::get).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(async.getRejectedCount()).isZero();
+    }
+}
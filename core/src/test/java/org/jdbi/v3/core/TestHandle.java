@@ -13,6 +13,9 @@
  */
 package org.jdbi.v3.core;
 
+import java.util.concurrent.CompletableFuture;
+
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.rule.H2DatabaseRule;
 import org.jdbi.v3.core.statement.UnableToCreateStatementException;
 import org.jdbi.v3.core.transaction.LocalTransactionHandler;
@@ -116,6 +119,38 @@ public class TestHandle {
         assertThat(h.getConnection().isClosed()).isTrue();
     }
 
+    @Test
+    public void testContextIsPerThreadByDefault() throws Exception {
+        try (Handle h = dbRule.openHandle()) {
+            ConfigRegistry original = h.getConfig();
+            ConfigRegistry swapped = original.createCopy();
+
+            ConstantHandleSupplier.of(h).invokeInContext(null, swapped, () -> {
+                assertThat(h.getConfig()).isSameAs(swapped);
+                assertThat(CompletableFuture.supplyAsync(h::getConfig).get()).isSameAs(original);
+                return null;
+            });
+            assertThat(h.getConfig()).isSameAs(original);
+        }
+    }
+
+    @Test
+    public void testScopedContextIsSharedAcrossThreads() throws Exception {
+        dbRule.getJdbi().getConfig(Handles.class).setThreadLocalContext(false);
+
+        try (Handle h = dbRule.openHandle()) {
+            ConfigRegistry original = h.getConfig();
+            ConfigRegistry swapped = original.createCopy();
+
+            ConstantHandleSupplier.of(h).invokeInContext(null, swapped, () -> {
+                assertThat(CompletableFuture.supplyAsync(h::getConfig).get()).isSameAs(swapped);
+                return null;
+            });
+            assertThat(h.getConfig()).isSameAs(original);
+            assertThat(h.getExtensionMethod()).isNull();
+        }
+    }
+
     static class BoomHandler extends LocalTransactionHandler {
         boolean failTest;
         boolean failRollback;
@@ -434,4 +434,24 @@ public class TestJdbiNestedCallBehavior {
             onDemand2.run(() ->
                 assertThat(onDemand.getHandle()).isSameAs(onDemand2.getHandle())));
     }
+
+    @Test
+    public void nestedCallsOpenTheirOwnHandleWithoutThreadLocalContext() {
+        jdbi.getConfig(Handles.class).setThreadLocalContext(false);
+
+        jdbi.useHandle(h1 ->
+            jdbi.useHandle(h2 ->
+                assertThat(h1).isNotSameAs(h2)));
+
+        jdbi.useTransaction(h1 ->
+            jdbi.useTransaction(h2 ->
+                assertThat(h1).isNotSameAs(h2)));
+
+        jdbi.useExtension(TestExtension.class, e ->
+            jdbi.useHandle(h ->
+                assertThat(e.getHandle()).isNotSameAs(h)));
+
+        jdbi.useHandle(h ->
+            assertThat(h.getConfig(Handles.class).isThreadLocalContext()).isFalse());
+    }
 }
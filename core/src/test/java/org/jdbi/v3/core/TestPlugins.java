@@ -13,7 +13,10 @@
  */
 package org.jdbi.v3.core;
 
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.jdbi.v3.core.rule.H2DatabaseRule;
 import org.jdbi.v3.core.spi.JdbiPlugin;
@@ -54,4 +57,80 @@ public class TestPlugins {
 
         assertThat(c).isSameAs(dbRule.getJdbi().open().getConnection());
     }
+
+    @Test
+    public void testCustomizeNewConnectionOncePerPhysicalConnection() {
+        Connection physical = dbRule.getSharedHandle().getConnection();
+        // a pool that hands out a new wrapper around the same physical connection on every checkout
+        Jdbi jdbi = Jdbi.create(new ConnectionFactory() {
+            @Override
+            public Connection openConnection() {
+                return pooled(physical);
+            }
+
+            @Override
+            public void closeConnection(Connection conn) {}
+        });
+        List<String> initialized = new ArrayList<>();
+        jdbi.installPlugin(new JdbiPlugin() {
+            @Override
+            public void customizeNewConnection(Handle handle) {
+                initialized.add("first");
+            }
+        });
+
+        jdbi.useHandle(h -> {});
+        jdbi.useHandle(h -> {});
+        assertThat(initialized).containsExactly("first");
+
+        jdbi.installPlugin(new JdbiPlugin() {
+            @Override
+            public void customizeNewConnection(Handle handle) {
+                initialized.add("second");
+            }
+        });
+
+        jdbi.useHandle(h -> {});
+        jdbi.useHandle(h -> {});
+        assertThat(initialized).containsExactly("first", "second");
+    }
+
+    @Test
+    public void testConnectionsAreNotTrackedWithoutNewConnectionPlugins() {
+        Connection physical = dbRule.getSharedHandle().getConnection();
+        List<String> unwrapped = new ArrayList<>();
+        Jdbi jdbi = Jdbi.create(new ConnectionFactory() {
+            @Override
+            public Connection openConnection() {
+                return pooled(physical, unwrapped);
+            }
+
+            @Override
+            public void closeConnection(Connection conn) {}
+        });
+        jdbi.installPlugin(new JdbiPlugin() {
+            @Override
+            public Handle customizeHandle(Handle handle) {
+                return handle;
+            }
+        });
+
+        jdbi.useHandle(h -> {});
+        assertThat(unwrapped).isEmpty();
+    }
+
+    private static Connection pooled(Connection physical) {
+        return pooled(physical, new ArrayList<>());
+    }
+
+    private static Connection pooled(Connection physical, List<String> unwrapped) {
+        return (Connection) Proxy.newProxyInstance(TestPlugins.class.getClassLoader(), new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+                if ("unwrap".equals(method.getName())) {
+                    unwrapped.add("unwrap");
+                    return physical;
+                }
+                return method.invoke(physical, args);
+            });
+    }
 }
@@ -0,0 +1,146 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.jdbi.v3.core.result.ResultIterable;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static java.util.stream.Collectors.toList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestStreamPartitions {
+    private static final int ROWS = 5000;
+    private static final List<Integer> PARTITIONS = Arrays.asList(0, 1, 2, 3);
+
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule();
+
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+    private ExecutorService executor;
+    private Jdbi jdbi;
+
+    @Before
+    public void setUp() {
+        dbRule.getSharedHandle().execute("create table numbers (id int primary key)");
+        dbRule.getSharedHandle().execute("insert into numbers select x from system_range(1, " + ROWS + ")");
+
+        ConnectionFactory connections = dbRule.getConnectionFactory();
+        jdbi = Jdbi.create(new ConnectionFactory() {
+            @Override
+            public Connection openConnection() throws SQLException {
+                openConnections.incrementAndGet();
+                return connections.openConnection();
+            }
+
+            @Override
+            public void closeConnection(Connection conn) throws SQLException {
+                openConnections.decrementAndGet();
+                conn.close();
+            }
+        });
+        executor = Executors.newFixedThreadPool(PARTITIONS.size());
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testAllPartitionsAreMerged() {
+        try (Stream<Integer> ids = jdbi.streamPartitions(PARTITIONS, executor, this::partition)) {
+            assertThat(ids.sorted().collect(toList()))
+                .hasSize(ROWS)
+                .startsWith(1, 2, 3)
+                .endsWith(ROWS);
+        }
+        assertThat(threads).hasSize(PARTITIONS.size());
+        assertThat(openConnections.get()).isZero();
+    }
+
+    @Test
+    public void testParallelConsumption() {
+        try (Stream<Integer> ids = jdbi.streamPartitions(PARTITIONS, executor, this::partition)) {
+            assertThat(ids.parallel().mapToLong(Integer::longValue).sum()).isEqualTo((long) ROWS * (ROWS + 1) / 2);
+        }
+        assertThat(openConnections.get()).isZero();
+    }
+
+    @Test
+    public void testClosingEarlyClosesEveryHandle() {
+        try (Stream<Integer> ids = jdbi.streamPartitions(PARTITIONS, executor, this::partition)) {
+            assertThat(ids.limit(10).count()).isEqualTo(10);
+        }
+        assertThat(openConnections.get()).isZero();
+    }
+
+    @Test
+    public void testPartitionFailureIsThrown() {
+        try (Stream<Integer> ids = jdbi.streamPartitions(PARTITIONS, executor, (handle, partition) -> {
+            if (partition == 2) {
+                throw new IllegalStateException("partition 2 failed");
+            }
+            return partition(handle, partition);
+        })) {
+            assertThatThrownBy(ids::count)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("partition 2 failed");
+        }
+        assertThat(openConnections.get()).isZero();
+    }
+
+    @Test
+    public void testNoPartitions() {
+        try (Stream<Integer> ids = jdbi.streamPartitions(Arrays.<Integer>asList(), executor, this::partition)) {
+            assertThat(ids.count()).isZero();
+        }
+    }
+
+    @Test
+    public void testSameThreadExecutorFails() {
+        try (Stream<Integer> ids = jdbi.streamPartitions(PARTITIONS, Runnable::run, this::partition)) {
+            assertThatThrownBy(ids::count)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("must run partitions on other threads");
+        }
+        assertThat(threads).isEmpty();
+        assertThat(openConnections.get()).isZero();
+    }
+
+    private ResultIterable<Integer> partition(Handle handle, int partition) {
+        threads.add(Thread.currentThread().getName());
+        return handle.createQuery("select id from numbers where mod(id, :count) = :partition")
+            .bind("count", PARTITIONS.size())
+            .bind("partition", partition)
+            .mapTo(Integer.class);
+    }
+}
@@ -16,6 +16,7 @@ package org.jdbi.v3.core.argument;
 import java.lang.reflect.Type;
 import java.sql.PreparedStatement;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.HandleAccess;
@@ -30,6 +31,7 @@ import org.mockito.junit.MockitoRule;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.jdbi.v3.core.generic.GenericTypes.getErasedType;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 public class TestArgumentsRegistry {
@@ -110,8 +112,95 @@ public class TestArgumentsRegistry {
                 .hasValueSatisfying(a -> assertThat(a).isInstanceOf(NullArgument.class));
     }
 
+    @Test
+    public void testTypeMatchIsReused() {
+        CountingTypeMatchingFactory factory = new CountingTypeMatchingFactory();
+        handle.registerArgument(factory);
+
+        assertThat(ctx.findArgumentFor(FinalWeird.class, new FinalWeird()))
+                .hasValueSatisfying(a -> assertThat(a).isInstanceOf(WeirdArgument.class));
+        assertThat(ctx.findArgumentFor(FinalWeird.class, null))
+                .hasValueSatisfying(a -> assertThat(a).isInstanceOf(WeirdArgument.class));
+        assertThat(ctx.findArgumentFor(FinalWeird.class, new FinalWeird()))
+                .hasValueSatisfying(a -> assertThat(a).isInstanceOf(WeirdArgument.class));
+
+        // matched once; every lookup after that goes straight to build()
+        assertThat(factory.matched).hasValue(1);
+        assertThat(factory.built).hasValue(3);
+    }
+
+    @Test
+    public void testTypeMatchSkipsUnsupportedFactories() throws Exception {
+        CountingTypeMatchingFactory factory = new CountingTypeMatchingFactory();
+        handle.registerArgument(factory);
+
+        ctx.findArgumentFor(String.class, I_AM_A_STRING).get().apply(3, stmt, null);
+        ctx.findArgumentFor(String.class, I_AM_A_STRING).get().apply(3, stmt, null);
+
+        verify(stmt, times(2)).setString(3, I_AM_A_STRING);
+        assertThat(factory.matched).hasValue(1);
+        assertThat(factory.built).hasValue(0);
+    }
+
+    @Test
+    public void testRegisterAfterTypeMatch() {
+        assertThat(ctx.findArgumentFor(FinalWeird.class, new FinalWeird())).isEmpty();
+
+        ctx.getConfig(Arguments.class).register(new CountingTypeMatchingFactory());
+
+        assertThat(ctx.findArgumentFor(FinalWeird.class, new FinalWeird()))
+                .hasValueSatisfying(a -> assertThat(a).isInstanceOf(WeirdArgument.class));
+    }
+
+    @Test
+    public void testValueFactoriesStillConsultedForMatchedTypes() {
+        CountingTypeMatchingFactory factory = new CountingTypeMatchingFactory();
+        handle.registerArgument(factory);
+        handle.registerArgument(new FinalWeirdValueArgumentFactory());
+
+        // the value based factory was registered last, so it wins for a value it recognizes...
+        assertThat(ctx.findArgumentFor(FinalWeird.class, new FinalWeird()))
+                .hasValueSatisfying(a -> assertThat(a).isInstanceOf(WeirdArgument.class));
+        assertThat(factory.built).hasValue(0);
+        // ...and the type matching factory still gets the values it doesn't
+        assertThat(ctx.findArgumentFor(FinalWeird.class, null))
+                .hasValueSatisfying(a -> assertThat(a).isInstanceOf(WeirdArgument.class));
+        assertThat(factory.built).hasValue(1);
+    }
+
+    @Test
+    public void testUnsupportedExactTypeAsksEachFactoryOnce() {
+        FinalWeirdValueArgumentFactory factory = new FinalWeirdValueArgumentFactory();
+        handle.registerArgument(factory);
+
+        assertThat(ctx.findArgumentFor(FinalWeird[].class, new FinalWeird[0])).isEmpty();
+        assertThat(factory.built).hasValue(1);
+    }
+
     private static class Weird {}
 
+    private static final class FinalWeird {}
+
+    private static class CountingTypeMatchingFactory implements ArgumentFactory.TypeMatching {
+        private final AtomicInteger matched = new AtomicInteger();
+        private final AtomicInteger built = new AtomicInteger();
+
+        @Override
+        public boolean supports(Type type, ConfigRegistry config) {
+            matched.incrementAndGet();
+            return type == FinalWeird.class;
+        }
+
+        @Override
+        public Optional<Argument> build(Type type, Object value, ConfigRegistry config) {
+            if (type != FinalWeird.class) {
+                return Optional.empty();
+            }
+            built.incrementAndGet();
+            return Optional.of(new WeirdArgument());
+        }
+    }
+
     private static class WeirdClassArgumentFactory implements ArgumentFactory {
         @Override
         public Optional<Argument> build(Type expectedType, Object value, ConfigRegistry config) {
@@ -130,6 +219,18 @@ public class TestArgumentsRegistry {
         }
     }
 
+    private static class FinalWeirdValueArgumentFactory implements ArgumentFactory {
+        private final AtomicInteger built = new AtomicInteger();
+
+        @Override
+        public Optional<Argument> build(Type expectedType, Object value, ConfigRegistry config) {
+            built.incrementAndGet();
+            return value instanceof FinalWeird
+                    ? Optional.of(new WeirdArgument())
+                    : Optional.empty();
+        }
+    }
+
     private static class WeirdArgument implements Argument {
 
         @Override
@@ -0,0 +1,128 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestConfigRegistry {
+    private static final AtomicInteger COPIES = new AtomicInteger();
+
+    @Before
+    public void resetCopies() {
+        COPIES.set(0);
+    }
+
+    @Test
+    public void testCopyCopiesEveryConfig() {
+        ConfigRegistry parent = new ConfigRegistry();
+        parent.get(CountingConfig.class).value = "parent";
+
+        ConfigRegistry copy = parent.createCopy();
+        assertThat(COPIES).hasValue(1);
+
+        assertThat(copy.get(CountingConfig.class).value).isEqualTo("parent");
+        assertThat(copy.get(CountingConfig.class).registry).isSameAs(copy);
+        assertThat(COPIES).hasValue(1);
+    }
+
+    @Test
+    public void testChangesToCopyDoNotAffectParent() {
+        ConfigRegistry parent = new ConfigRegistry();
+        parent.get(CountingConfig.class).value = "parent";
+
+        ConfigRegistry copy = parent.createCopy();
+        copy.get(CountingConfig.class).value = "copy";
+
+        assertThat(parent.get(CountingConfig.class).value).isEqualTo("parent");
+        assertThat(parent.createCopy().get(CountingConfig.class).value).isEqualTo("parent");
+    }
+
+    @Test
+    public void testChangesToParentAfterCopyDoNotAffectCopy() {
+        ConfigRegistry parent = new ConfigRegistry();
+        parent.get(CountingConfig.class).value = "before";
+        ConfigRegistry copy = parent.createCopy();
+
+        parent.get(CountingConfig.class).value = "after";
+
+        assertThat(copy.get(CountingConfig.class).value).isEqualTo("before");
+    }
+
+    @Test
+    public void testCopyOfCopy() {
+        ConfigRegistry root = new ConfigRegistry();
+        root.get(CountingConfig.class).value = "root";
+        ConfigRegistry grandchild = root.createCopy().createCopy();
+
+        assertThat(grandchild.get(CountingConfig.class).value).isEqualTo("root");
+        assertThat(grandchild.get(JdbiCaches.class)).isSameAs(root.get(JdbiCaches.class));
+    }
+
+    @Test
+    public void testConcurrentGetReturnsOneInstance() throws Exception {
+        ConfigRegistry registry = new ConfigRegistry();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<CountingConfig>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return registry.get(CountingConfig.class);
+                }));
+            }
+            start.countDown();
+
+            CountingConfig expected = registry.get(CountingConfig.class);
+            for (Future<CountingConfig> future : futures) {
+                assertThat(future.get()).isSameAs(expected);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public static class CountingConfig implements JdbiConfig<CountingConfig> {
+        private String value;
+        private ConfigRegistry registry;
+
+        public CountingConfig() {}
+
+        private CountingConfig(CountingConfig that) {
+            this.value = that.value;
+            COPIES.incrementAndGet();
+        }
+
+        @Override
+        public void setRegistry(ConfigRegistry registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        public CountingConfig createCopy() {
+            return new CountingConfig(this);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.jdbi.v3.core.statement.ColonPrefixSqlParser;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestJdbiCaches {
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule();
+
+    private final AtomicInteger computed = new AtomicInteger();
+    private final JdbiCache<Integer, String> cache = JdbiCaches.declare("test", i -> {
+        computed.incrementAndGet();
+        return "value " + i;
+    });
+
+    @Test
+    public void testStats() {
+        ConfigRegistry config = new ConfigRegistry();
+
+        assertThat(cache.get(1, config)).isEqualTo("value 1");
+        assertThat(cache.get(1, config)).isEqualTo("value 1");
+        assertThat(cache.get(2, config)).isEqualTo("value 2");
+
+        JdbiCacheStats stats = config.get(JdbiCaches.class).getStats().get("test");
+        assertThat(stats.getHitCount()).isEqualTo(1);
+        assertThat(stats.getMissCount()).isEqualTo(2);
+        assertThat(stats.getEvictionCount()).isZero();
+        assertThat(stats.getSize()).isEqualTo(2);
+        assertThat(stats.getHitRate()).isEqualTo(1.0 / 3);
+        assertThat(computed).hasValue(2);
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        ConfigRegistry config = new ConfigRegistry();
+        config.get(JdbiCaches.class).setMaxSize("test", 3);
+
+        cache.get(1, config);
+        cache.get(2, config);
+        cache.get(3, config);
+        cache.get(1, config);
+        cache.get(4, config);
+
+        JdbiCacheStats stats = config.get(JdbiCaches.class).getStats().get("test");
+        assertThat(stats.getSize()).isEqualTo(3);
+        assertThat(stats.getEvictionCount()).isEqualTo(1);
+
+        computed.set(0);
+        cache.get(1, config);
+        cache.get(4, config);
+        assertThat(computed).hasValue(0);
+        cache.get(2, config);
+        assertThat(computed).hasValue(1);
+    }
+
+    @Test
+    public void testHitsWhileEvicting() throws Exception {
+        ConfigRegistry config = new ConfigRegistry();
+        config.get(JdbiCaches.class).setMaxSize("test", 1000);
+        for (int i = 0; i < 1000; i++) {
+            cache.get(i, config);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int t = 0; t < 3; t++) {
+                readers.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 2_000_000; i++) {
+                        cache.get(random.nextInt(1000), config);
+                    }
+                }));
+            }
+            Future<?> writer = executor.submit(() -> {
+                for (int i = 1000; i < 50_000; i++) {
+                    cache.get(i, config);
+                }
+            });
+
+            writer.get(1, TimeUnit.MINUTES);
+            for (Future<?> reader : readers) {
+                reader.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(config.get(JdbiCaches.class).getStats().get("test").getEvictionCount()).isPositive();
+    }
+
+    @Test
+    public void testDefaultMaxSize() {
+        ConfigRegistry config = new ConfigRegistry();
+        config.get(JdbiCaches.class).setDefaultMaxSize(10);
+
+        for (int i = 0; i < 100; i++) {
+            cache.get(i, config);
+        }
+
+        assertThat(config.get(JdbiCaches.class).getStats().get("test").getSize()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    public void testZeroSizeDisablesCaching() {
+        ConfigRegistry config = new ConfigRegistry();
+        config.get(JdbiCaches.class).setMaxSize("test", 0);
+
+        cache.get(1, config);
+        cache.get(1, config);
+
+        assertThat(computed).hasValue(2);
+        assertThat(config.get(JdbiCaches.class).getStats().get("test").getSize()).isZero();
+    }
+
+    @Test
+    public void testNegativeSize() {
+        JdbiCaches caches = new ConfigRegistry().get(JdbiCaches.class);
+
+        assertThatThrownBy(() -> caches.setMaxSize("test", -1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> caches.setDefaultMaxSize(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testParsedSqlCacheIsBounded() {
+        dbRule.getJdbi().getConfig(JdbiCaches.class).setMaxSize(ColonPrefixSqlParser.class.getName(), 5);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(dbRule.getSharedHandle().createQuery("select " + i + " where 1 = :one")
+                .bind("one", 1)
+                .mapTo(int.class)
+                .one())
+                .isEqualTo(i);
+        }
+
+        JdbiCacheStats stats = dbRule.getJdbi().getConfig(JdbiCaches.class).getStats()
+            .get(ColonPrefixSqlParser.class.getName());
+        assertThat(stats.getSize()).isLessThanOrEqualTo(5);
+        assertThat(stats.getEvictionCount()).isPositive();
+    }
+}
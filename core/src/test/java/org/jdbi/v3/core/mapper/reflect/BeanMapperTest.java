@@ -15,6 +15,7 @@
 package org.jdbi.v3.core.mapper.reflect;
 
 import java.sql.SQLException;
+import java.util.Collections;
 
 import javax.annotation.Nullable;
 
@@ -83,6 +84,149 @@ public class BeanMapperTest {
         assertThat(bean.getS()).isEqualTo("foo");
     }
 
+    @Test
+    public void testSpecializationReusedForSameColumns() {
+        CountingColumnNameMatcher matcher = new CountingColumnNameMatcher();
+        handle.getConfig(ReflectionMappers.class).setColumnNameMatchers(Collections.singletonList(matcher));
+        RowMapper<ColumnNameBean> beanMapper = BeanMapper.of(ColumnNameBean.class);
+
+        handle.execute("insert into something (id, name) values (1, 'foo')");
+
+        assertThat(handle.select("select id, name from something").map(beanMapper).one().getS()).isEqualTo("foo");
+        int matches = matcher.count;
+        assertThat(matches).isPositive();
+
+        assertThat(handle.select("select id, name from something").map(beanMapper).one().getS()).isEqualTo("foo");
+        assertThat(matcher.count).isEqualTo(matches);
+
+        assertThat(handle.select("select name, id from something").map(beanMapper).one().getS()).isEqualTo("foo");
+        assertThat(matcher.count).isGreaterThan(matches);
+    }
+
+    @Test
+    public void testSpecializationReusedAcrossMapToBeanQueries() {
+        CountingColumnNameMatcher matcher = new CountingColumnNameMatcher();
+        handle.getConfig(ReflectionMappers.class).setColumnNameMatchers(Collections.singletonList(matcher));
+
+        handle.execute("insert into something (id, name) values (1, 'foo')");
+
+        assertThat(handle.createQuery("select id, name from something").mapToBean(ColumnNameBean.class).one().getS())
+            .isEqualTo("foo");
+        int matches = matcher.count;
+        assertThat(matches).isPositive();
+
+        assertThat(handle.createQuery("select id, name from something").mapToBean(ColumnNameBean.class).one().getS())
+            .isEqualTo("foo");
+        assertThat(matcher.count).isEqualTo(matches);
+    }
+
+    @Test
+    public void testSpecializationHonorsLaterColumnMappers() {
+        RowMapper<ColumnNameBean> beanMapper = BeanMapper.of(ColumnNameBean.class);
+
+        handle.execute("insert into something (id, name) values (1, 'foo')");
+
+        assertThat(handle.select("select id, name from something").map(beanMapper).one().getS()).isEqualTo("foo");
+
+        handle.registerColumnMapper(String.class, (r, i, ctx) -> r.getString(i).toUpperCase());
+
+        assertThat(handle.select("select id, name from something").map(beanMapper).one().getS()).isEqualTo("FOO");
+    }
+
+    @Test
+    public void testBindAndMapThroughGeneratedAccessors() {
+        ColumnNameBean bean = new ColumnNameBean();
+        bean.setI(7);
+        bean.setS("seven");
+
+        handle.createUpdate("insert into something (id, name) values (:i, :s)").bindBean(bean).execute();
+
+        ColumnNameBean mapped = handle.select("select id, name from something").map(BeanMapper.of(ColumnNameBean.class)).one();
+        assertThat(mapped.getI()).isEqualTo(7);
+        assertThat(mapped.getS()).isEqualTo("seven");
+    }
+
+    @Test
+    public void testSetterExceptionIsWrapped() {
+        handle.execute("insert into something (id, name) values (1, 'foo')");
+
+        assertThatThrownBy(() -> handle.select("select id, name from something").map(BeanMapper.of(ThrowingBean.class)).one())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("name")
+            .hasRootCauseInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void testPrimitiveProperties() {
+        handle.execute("insert into something (id, name, intValue) values (1, 'foo', null)");
+
+        PrimitiveBean bean = handle.select("select id as l, intValue as i, 2.5 as d from something")
+            .map(BeanMapper.of(PrimitiveBean.class))
+            .one();
+
+        assertThat(bean.getL()).isEqualTo(1L);
+        assertThat(bean.getI()).isEqualTo(-1);
+        assertThat(bean.getD()).isEqualTo(2.5);
+    }
+
+    @Test
+    public void testPrimitivePropertiesUseRegisteredColumnMapper() {
+        handle.execute("insert into something (id, name, intValue) values (1, 'foo', 3)");
+        handle.registerColumnMapper(Integer.class, (r, i, ctx) -> r.getInt(i) * 10);
+
+        assertThat(handle.select("select intValue as i from something")
+                .map(BeanMapper.of(PrimitiveBean.class))
+                .one()
+                .getI())
+            .isEqualTo(30);
+    }
+
+    public static class PrimitiveBean {
+        private int i = -1;
+        private long l;
+        private double d;
+
+        public int getI() {
+            return i;
+        }
+
+        public void setI(int i) {
+            this.i = i;
+        }
+
+        public long getL() {
+            return l;
+        }
+
+        public void setL(long l) {
+            this.l = l;
+        }
+
+        public double getD() {
+            return d;
+        }
+
+        public void setD(double d) {
+            this.d = d;
+        }
+    }
+
+    public static class ThrowingBean {
+        public void setName(String name) {
+            throw new UnsupportedOperationException(name);
+        }
+    }
+
+    private static class CountingColumnNameMatcher extends CaseInsensitiveColumnNameMatcher {
+        private int count;
+
+        @Override
+        public boolean columnNameMatches(String columnName, String propertyName) {
+            count++;
+            return super.columnNameMatches(columnName, propertyName);
+        }
+    }
+
     @Test
     public void testNested() {
         handle.registerRowMapper(BeanMapper.factory(NestedBean.class));
@@ -19,6 +19,7 @@ import javax.annotation.Nullable;
 
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.SampleBean;
+import org.jdbi.v3.core.mapper.ColumnMappers;
 import org.jdbi.v3.core.mapper.Nested;
 import org.jdbi.v3.core.mapper.PropagateNull;
 import org.jdbi.v3.core.mapper.RowMapper;
@@ -64,6 +65,42 @@ public class FieldMapperTest {
         assertThat(thing.s).isEqualTo("foo");
     }
 
+    static class PrimitiveThing {
+        int i = -1;
+        long l;
+        double d;
+    }
+
+    @Test
+    public void testPrimitiveFields() {
+        handle.execute("insert into something (id, name, intValue) values (1, 'foo', 3)");
+
+        PrimitiveThing thing = handle.select("select id as l, intValue as i, 2.5 as d from something")
+            .map(FieldMapper.of(PrimitiveThing.class))
+            .one();
+
+        assertThat(thing.l).isEqualTo(1L);
+        assertThat(thing.i).isEqualTo(3);
+        assertThat(thing.d).isEqualTo(2.5);
+    }
+
+    @Test
+    public void testNullPrimitiveField() {
+        handle.execute("insert into something (id, name, intValue) values (1, 'foo', null)");
+
+        assertThat(handle.select("select intValue as i from something")
+                .map(FieldMapper.of(PrimitiveThing.class))
+                .one()
+                .i)
+            .isZero();
+
+        handle.getConfig(ColumnMappers.class).setCoalesceNullPrimitivesToDefaults(false);
+        assertThatThrownBy(() -> handle.select("select intValue as i from something")
+                .map(FieldMapper.of(PrimitiveThing.class))
+                .one())
+            .hasMessageContaining("Database null values are not allowed");
+    }
+
     @Test
     public void testNested() {
         handle.execute("insert into something (id, name) values (1, 'foo')");
@@ -13,17 +13,22 @@
  */
 package org.jdbi.v3.core.result;
 
+import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collector;
+import java.util.stream.Stream;
 
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.mapper.MappingException;
 import org.jdbi.v3.core.mapper.SomethingMapper;
 import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.jdbi.v3.core.statement.StatementContext;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -31,6 +36,7 @@ import org.junit.Test;
 import static java.util.stream.Collectors.toList;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class TestReducing {
     @Rule
@@ -119,6 +125,80 @@ public class TestReducing {
             .containsEntry(2, new SomethingWithLocations(new Something(2, "apple")).at("tree").at("pie"));
     }
 
+    @Test
+    public void testReducerPreparesColumns() {
+        List<String> result = dbRule.getSharedHandle()
+            .createQuery("SELECT something.id, name, location FROM something NATURAL JOIN something_location ORDER BY location")
+            .reduceRows(new RowReducer<List<String>, String>() {
+                @Override
+                public List<String> container() {
+                    return new ArrayList<>();
+                }
+
+                @Override
+                public void prepare(RowView rowView) {
+                    rowView.prepareColumn("id", int.class).prepareColumn("location", String.class);
+                }
+
+                @Override
+                public void accumulate(List<String> container, RowView rowView) {
+                    // the same column read as two types, so the view has to switch mappers on every row
+                    container.add(rowView.getColumn("ID", Integer.class) + rowView.getColumn("id", String.class)
+                        + rowView.getColumn("location", String.class) + rowView.getColumn(3, String.class));
+                }
+
+                @Override
+                public Stream<String> stream(List<String> container) {
+                    return container.stream();
+                }
+            })
+            .collect(toList());
+
+        assertThat(result).containsExactly("11outsideoutside", "22piepie", "22treetree");
+    }
+
+    @Test
+    public void testPreparingMissingColumnFails() {
+        assertThatThrownBy(() -> dbRule.getSharedHandle()
+            .createQuery("SELECT id FROM something")
+            .reduceRows(new LinkedHashMapRowReducer<Integer, Integer>() {
+                @Override
+                public void prepare(RowView rowView) {
+                    rowView.prepareColumn("nope", int.class);
+                }
+
+                @Override
+                public void accumulate(Map<Integer, Integer> container, RowView rowView) {}
+            }))
+            .isInstanceOf(MappingException.class);
+    }
+
+    @Test
+    public void testLabelReadsUseOverriddenLabelMap() {
+        List<String> result = dbRule.getSharedHandle()
+            .createQuery("SELECT id, name FROM something ORDER BY id")
+            .registerColumnMapper(String.class, new ColumnMapper<String>() {
+                @Override
+                public String map(ResultSet r, int columnNumber, StatementContext ctx) {
+                    return "by index";
+                }
+
+                @Override
+                public String map(ResultSet r, String columnLabel, StatementContext ctx) {
+                    return "by label " + columnLabel;
+                }
+            })
+            .reduceRows(new LinkedHashMapRowReducer<Integer, String>() {
+                @Override
+                public void accumulate(Map<Integer, String> container, RowView rowView) {
+                    container.put(rowView.getColumn(1, Integer.class), rowView.getColumn("name", String.class));
+                }
+            })
+            .collect(toList());
+
+        assertThat(result).containsExactly("by label name", "by label name");
+    }
+
     static class SomethingWithLocations {
         final Something something;
         final List<String> locations = new ArrayList<>();
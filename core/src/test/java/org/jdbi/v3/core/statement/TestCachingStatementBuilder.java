@@ -0,0 +1,159 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.result.ResultIterator;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestCachingStatementBuilder {
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule().withSomething();
+
+    private CachingStatementBuilderFactory factory;
+    private Handle h;
+
+    @Before
+    public void setUp() {
+        factory = new CachingStatementBuilderFactory(2);
+        dbRule.getJdbi().setStatementBuilderFactory(factory);
+        h = dbRule.openHandle();
+        h.execute("insert into something (id, name) values (1, 'Brian'), (2, 'Keith')");
+    }
+
+    private CachingStatementBuilder builder() {
+        return (CachingStatementBuilder) h.getStatementBuilder();
+    }
+
+    @Test
+    public void testRepeatedQueryReusesStatement() {
+        for (int id = 1; id <= 2; id++) {
+            assertThat(h.select("select name from something where id = ?", id).mapTo(String.class).one())
+                .isEqualTo(id == 1 ? "Brian" : "Keith");
+        }
+
+        StatementCacheStats stats = builder().getStats();
+        assertThat(stats.getHitCount()).isEqualTo(1);
+        assertThat(stats.getSize()).isEqualTo(2);
+    }
+
+    @Test
+    public void testOpenStatementsAreNotShared() {
+        String sql = "select name from something order by id";
+        try (ResultIterator<String> names = h.createQuery(sql).mapTo(String.class).iterator()) {
+            assertThat(names.next()).isEqualTo("Brian");
+            assertThat(h.createQuery(sql).mapTo(String.class).list()).containsExactly("Brian", "Keith");
+            assertThat(names.next()).isEqualTo("Keith");
+        }
+
+        assertThat(builder().getStats().getHitCount()).isZero();
+    }
+
+    @Test
+    public void testSettingsAreResetOnReuse() {
+        String sql = "select name from something order by id";
+        assertThat(h.createQuery(sql).setMaxRows(1).mapTo(String.class).list()).containsExactly("Brian");
+        assertThat(h.createQuery(sql).mapTo(String.class).list()).containsExactly("Brian", "Keith");
+
+        assertThat(builder().getStats().getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testGeneratedKeysAreCachedSeparately() {
+        h.execute("create table something_else (id integer not null generated always as identity, name varchar(50))");
+        String sql = "insert into something_else (name) values (:name)";
+
+        h.createUpdate(sql).bind("name", "Brian").execute();
+        long first = h.createUpdate(sql).bind("name", "Tom").executeAndReturnGeneratedKeys().mapTo(long.class).one();
+        long second = h.createUpdate(sql).bind("name", "Mark").executeAndReturnGeneratedKeys().mapTo(long.class).one();
+
+        assertThat(second).isEqualTo(first + 1);
+        assertThat(builder().getStats().getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testCallableStatementIsReused() {
+        h.execute("CREATE ALIAS INSERT_SOMETHING FOR \"org.jdbi.v3.core.statement.TestCachingStatementBuilder.insertSomething\"");
+
+        h.createCall("CALL INSERT_SOMETHING(:id, :name)").bind("id", 3).bind("name", "Mark").invoke();
+        h.createCall("CALL INSERT_SOMETHING(:id, :name)").bind("id", 4).bind("name", "Tom").invoke();
+
+        assertThat(h.select("select name from something where id > 2 order by id").mapTo(String.class).list())
+            .containsExactly("Mark", "Tom");
+        assertThat(builder().getStats().getHitCount()).isEqualTo(1);
+    }
+
+    public static void insertSomething(Connection conn, int id, String name) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("insert into something (id, name) values (?, ?)")) {
+            stmt.setInt(1, id);
+            stmt.setString(2, name);
+            stmt.execute();
+        }
+    }
+
+    @Test
+    public void testLeastRecentlyUsedStatementIsEvicted() {
+        h.select("select 1").mapTo(int.class).one();
+        h.select("select 2").mapTo(int.class).one();
+        h.select("select 1").mapTo(int.class).one();
+        h.select("select 3").mapTo(int.class).one();
+        h.select("select 1").mapTo(int.class).one();
+        h.select("select 2").mapTo(int.class).one();
+
+        StatementCacheStats stats = builder().getStats();
+        // the insert from setUp is evicted first
+        assertThat(stats.getHitCount()).isEqualTo(2);
+        assertThat(stats.getMissCount()).isEqualTo(5);
+        assertThat(stats.getEvictionCount()).isEqualTo(3);
+        assertThat(stats.getSize()).isEqualTo(2);
+    }
+
+    @Test
+    public void testFailedStatementIsNotReused() {
+        String sql = "insert into something (id, name) values (:id, :name)";
+        assertThatThrownBy(() -> h.createUpdate(sql).bind("id", 1).bind("name", "Duplicate").execute())
+            .isInstanceOf(UnableToExecuteStatementException.class);
+        h.createUpdate(sql).bind("id", 3).bind("name", "Mark").execute();
+
+        assertThat(builder().getStats().getHitCount()).isZero();
+        assertThat(h.select("select count(*) from something").mapTo(int.class).one()).isEqualTo(3);
+    }
+
+    @Test
+    public void testFactoryAggregatesHandles() {
+        h.select("select 1").mapTo(int.class).one();
+        h.close();
+
+        try (Handle other = dbRule.openHandle()) {
+            other.select("select 1").mapTo(int.class).one();
+            other.select("select 1").mapTo(int.class).one();
+        }
+
+        StatementCacheStats stats = factory.getStats();
+        assertThat(stats.getHitCount()).isEqualTo(1);
+        assertThat(stats.getMissCount()).isEqualTo(3);
+        assertThat(stats.getSize()).isZero();
+        assertThat(stats.getHitRate()).isEqualTo(0.25d);
+    }
+}
@@ -17,6 +17,8 @@ import java.util.Collections;
 import java.util.Map;
 
 import com.google.common.collect.ImmutableMap;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.config.JdbiCaches;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -35,6 +37,7 @@ public class TestDefinedAttributeTemplateEngine {
     public void setUp() {
         templateEngine = new DefinedAttributeTemplateEngine();
         ctx = mock(StatementContext.class);
+        when(ctx.getConfig()).thenReturn(new ConfigRegistry());
     }
 
     private String render(String sql) {
@@ -117,4 +120,22 @@ public class TestDefinedAttributeTemplateEngine {
         assertThat(render("select <😱>", singletonMap("😱", "baz")))
             .isEqualTo("select baz");
     }
+
+    @Test
+    public void testCachedTemplateRendersCurrentAttributes() {
+        ConfigRegistry config = new ConfigRegistry();
+        when(ctx.getConfig()).thenReturn(config);
+        String sql = "select <column> from <table>";
+
+        assertThat(render(sql, ImmutableMap.of("column", "a", "table", "b"))).isEqualTo("select a from b");
+        assertThat(render(sql, ImmutableMap.of("column", "c", "table", "d"))).isEqualTo("select c from d");
+        assertThat(config.get(JdbiCaches.class).getStats().get(DefinedAttributeTemplateEngine.class.getName()).getHitCount())
+            .isEqualTo(1L);
+    }
+
+    @Test
+    public void testEscapedTokenWithoutAttributes() {
+        assertThat(render("select \\<foo> from bar")).isEqualTo("select <foo> from bar");
+        assertThat(render("select \\<foo> from bar")).isEqualTo("select <foo> from bar");
+    }
 }
@@ -28,6 +28,7 @@ import org.junit.Rule;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 import static org.assertj.core.api.Assertions.tuple;
 
@@ -224,6 +225,64 @@ public class TestPreparedBatch {
         assertThat(r).extracting(s -> s.id, s -> s.name).containsExactly(tuple(1, "Eric"), tuple(2, "Brian"), tuple(3, "Keith"));
     }
 
+    @Test
+    public void testBindingSourcesChangeBetweenRows() {
+        PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:id, :name)");
+
+        b.bindBean(new Something(1, "Eric")).add();
+        b.bindBean(new Something(2, "Brian")).bind("name", "Keith").add();
+        b.bindMap(ImmutableMap.of("id", 3)).bindBean(new Something(99, "Cora")).add();
+        b.bindMap(ImmutableMap.of("id", 4, "name", "Dave")).bindBean(new Something(99, "Cora")).add();
+        b.bindFields(new PublicSomething(5, "Emma")).add();
+        b.execute();
+
+        assertThat(h.createQuery("select * from something order by id").mapToBean(Something.class).list())
+            .extracting(Something::getId, Something::getName)
+            .containsExactly(tuple(1, "Eric"), tuple(2, "Keith"), tuple(3, "Cora"), tuple(4, "Dave"), tuple(5, "Emma"));
+    }
+
+    @Test
+    public void testStreamingBatch() {
+        PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:id, :name)")
+            .setFlushThreshold(3);
+
+        for (int i = 0; i < 7; i++) {
+            b.bind("id", i).bind("name", "Name " + i).add();
+            // rows are executed as soon as a full chunk has been added
+            int flushed = (i + 1) / 3 * 3;
+            assertThat(h.createQuery("select count(*) from something").mapTo(int.class).one()).isEqualTo(flushed);
+        }
+        assertThat(b.size()).isEqualTo(7);
+
+        assertThat(b.execute()).hasSize(7).containsOnly(1);
+        assertThat(h.createQuery("select count(*) from something").mapTo(int.class).one()).isEqualTo(7);
+
+        b.bind("id", 7).bind("name", "Name 7").add();
+        assertThat(b.execute()).containsExactly(1);
+        assertThat(h.createQuery("select name from something where id = 7").mapTo(String.class).one()).isEqualTo("Name 7");
+    }
+
+    @Test
+    public void testStreamingBatchRejectsResultProducers() {
+        PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:id, :name)")
+            .setFlushThreshold(10);
+        b.bind("id", 1).bind("name", "Eric").add();
+
+        assertThatThrownBy(() -> b.executeAndReturnGeneratedKeys("id"))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testFlushThresholdAfterAdd() {
+        PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:id, :name)");
+        b.bind("id", 1).bind("name", "Eric").add();
+
+        assertThatThrownBy(() -> b.setFlushThreshold(10))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> h.prepareBatch("select 1").setFlushThreshold(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
     public static class PublicSomething {
         public int id;
         public String name;
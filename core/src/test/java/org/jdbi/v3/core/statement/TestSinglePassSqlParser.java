@@ -0,0 +1,126 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.config.JdbiCaches;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that {@link SinglePassSqlParser} parses exactly like the ANTLR based parsers.
+ */
+public class TestSinglePassSqlParser {
+    private static final List<String> STATEMENTS = Arrays.asList(
+        "",
+        "select * from something where id = :id",
+        "select * from something where id = #id",
+        "insert into foo (a, b) values (:a, :b.c?.d)",
+        "select :a::int, ::x, :::y, a::b",
+        "select ?, ??, ?? ?, ?., :a?",
+        "select '<:foo>', \"#bar\", '' , \"\", \"\"\"",
+        "select 'it\\'s :here' from dual where x = :x",
+        "select '\\\\' , ':a' , :b",
+        "select 'unterminated :a",
+        "select 'escaped \\' unterminated :a",
+        "select \"unterminated :a",
+        "select 1 /* comment :a #b ' \" */ :c /* unterminated :d",
+        "select /*/ :a */ :b",
+        "select \\:a, \\#b, \\?, \\\\, trailing \\",
+        "select :제목, #제목, :😱, #😱 from 업무_게시물",
+        "select :v$session, #v$session, :_1, #1_",
+        "select :, #, : a, # b, :'a', #\"b\"",
+        "select :\ud800, :\udc00, :a\ud800b, \\😱",
+        "select * from foo where end_date < :end and start_date > #start");
+
+    private static final String[] FRAGMENTS = {
+        ":", "#", "?", "'", "\"", "\\", "/", "*", ".", "::", "??", "?.", "/*", "*/",
+        "a", "Z", "1", "_", "$", " ", "\n", "id", "제", "😱", "\ud800", "\udc00", "<", ">"
+    };
+
+    private ConfigRegistry config;
+
+    @Before
+    public void setUp() {
+        config = new ConfigRegistry();
+        // keep the random statements from crowding out each other
+        config.get(JdbiCaches.class).setDefaultMaxSize(0);
+    }
+
+    @Test
+    public void testColonPrefixStatements() {
+        for (String sql : STATEMENTS) {
+            assertSameParse(new ColonPrefixSqlParser(), SinglePassSqlParser.colonPrefix(), sql);
+        }
+    }
+
+    @Test
+    public void testHashPrefixStatements() {
+        for (String sql : STATEMENTS) {
+            assertSameParse(new HashPrefixSqlParser(), SinglePassSqlParser.hashPrefix(), sql);
+        }
+    }
+
+    @Test
+    public void testRandomStatements() {
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder sql = new StringBuilder();
+            int fragments = random.nextInt(16);
+            for (int j = 0; j < fragments; j++) {
+                sql.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            }
+            assertSameParse(new ColonPrefixSqlParser(), SinglePassSqlParser.colonPrefix(), sql.toString());
+            assertSameParse(new HashPrefixSqlParser(), SinglePassSqlParser.hashPrefix(), sql.toString());
+        }
+    }
+
+    @Test
+    public void testMixedParameters() {
+        StatementContext ctx = StatementContextAccess.createContext(config);
+        assertThatThrownBy(() -> SinglePassSqlParser.colonPrefix().parse("select :a, ?", ctx))
+            .isInstanceOf(UnableToExecuteStatementException.class);
+    }
+
+    @Test
+    public void testNameParameter() {
+        StatementContext ctx = StatementContextAccess.createContext(config);
+        assertThat(SinglePassSqlParser.colonPrefix().nameParameter("a", ctx)).isEqualTo(":a");
+        assertThat(SinglePassSqlParser.hashPrefix().nameParameter("a", ctx)).isEqualTo("#a");
+    }
+
+    private void assertSameParse(SqlParser expected, SqlParser actual, String sql) {
+        StatementContext ctx = StatementContextAccess.createContext(config);
+        Object expectedResult;
+        try {
+            expectedResult = expected.parse(sql, ctx);
+        } catch (RuntimeException e) {
+            expectedResult = e.getClass();
+        }
+        Object actualResult;
+        try {
+            actualResult = actual.parse(sql, ctx);
+        } catch (RuntimeException e) {
+            actualResult = e.getClass();
+        }
+        assertThat(actualResult).describedAs(sql).isEqualTo(expectedResult);
+    }
+}
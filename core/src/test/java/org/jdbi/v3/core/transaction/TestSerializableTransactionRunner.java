@@ -14,12 +14,21 @@
 package org.jdbi.v3.core.transaction;
 
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.rule.H2DatabaseRule;
 import org.junit.Before;
 import org.junit.Rule;
@@ -39,6 +48,8 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 public class TestSerializableTransactionRunner {
     private static final int MAX_RETRIES = 5;
+    private static final int CONTENDERS = 8;
+    private static final int INCREMENTS = 20;
 
     @Rule
     public MockitoRule mockito = MockitoJUnit.rule();
@@ -138,4 +149,153 @@ public class TestSerializableTransactionRunner {
         verifyNoMoreInteractions(onSuccess);
         assertThat(expectedExceptions.get()).isEqualTo(MAX_RETRIES);
     }
+
+    @Test
+    public void testRetryPolicyDelaysAndGivesUp() {
+        List<Integer> consulted = new ArrayList<>();
+        SerializableTransactionRunner runner = new SerializableTransactionRunner();
+        dbRule.getJdbi().setTransactionHandler(runner);
+        dbRule.getJdbi().getConfig(SerializableTransactionRunner.Configuration.class)
+            .setRetryPolicy((failures, elapsed) -> {
+                consulted.add(failures);
+                return failures < 3 ? Optional.of(Duration.ofMillis(1)) : Optional.empty();
+            });
+
+        assertThatExceptionOfType(SQLException.class)
+            .isThrownBy(() -> dbRule.getJdbi().useTransaction(h -> {
+                throw new SQLException("serialization", "40001");
+            }))
+            .satisfies(e -> assertThat(e.getSuppressed()).hasSize(2));
+
+        assertThat(consulted).containsExactly(1, 2, 3);
+        TransactionRetryStats stats = runner.getStats();
+        assertThat(stats.getTransactionCount()).isEqualTo(1);
+        assertThat(stats.getRetryCount()).isEqualTo(2);
+        assertThat(stats.getExhaustedCount()).isEqualTo(1);
+        assertThat(stats.getBackoffTime()).isEqualTo(Duration.ofMillis(2));
+    }
+
+    @Test
+    public void testRetryBudgetIsSharedAcrossHandles() {
+        SerializableTransactionRunner runner = new SerializableTransactionRunner();
+        dbRule.getJdbi().setTransactionHandler(runner);
+        dbRule.getJdbi().getConfig(SerializableTransactionRunner.Configuration.class)
+            .setRetryBudget(new TransactionRetryBudget(3, Duration.ofHours(1)));
+        AtomicInteger attempts = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertThatExceptionOfType(SQLException.class)
+                .isThrownBy(() -> dbRule.getJdbi().useTransaction(h -> {
+                    attempts.incrementAndGet();
+                    throw new SQLException("serialization", "40001");
+                }));
+        }
+
+        assertThat(attempts.get()).describedAs("2 first attempts and the 3 retries in the budget").isEqualTo(5);
+        assertThat(runner.getStats().getRetryCount()).isEqualTo(3);
+        assertThat(runner.getStats().getBudgetRejectionCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testExponentialBackoffHasFullJitterUpToCap() {
+        TransactionRetryPolicy policy = TransactionRetryPolicy.exponentialBackoff(Duration.ofMillis(10), Duration.ofMillis(100));
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(policy.nextDelay(1, Duration.ZERO).get()).isBetween(Duration.ZERO, Duration.ofMillis(10));
+            assertThat(policy.nextDelay(3, Duration.ZERO).get()).isBetween(Duration.ZERO, Duration.ofMillis(40));
+            assertThat(policy.nextDelay(200, Duration.ZERO).get()).isBetween(Duration.ZERO, Duration.ofMillis(100));
+        }
+        assertThatThrownBy(() -> TransactionRetryPolicy.exponentialBackoff(Duration.ofMillis(10), Duration.ofMillis(1)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testDeadline() {
+        TransactionRetryPolicy policy = TransactionRetryPolicy.immediately().withDeadline(Duration.ofSeconds(1));
+
+        assertThat(policy.nextDelay(1, Duration.ofMillis(999))).contains(Duration.ZERO);
+        assertThat(policy.nextDelay(1, Duration.ofMillis(1001))).isEmpty();
+    }
+
+    @Test
+    public void testRetryBudgetRefills() {
+        AtomicLong now = new AtomicLong();
+        TransactionRetryBudget budget = new TransactionRetryBudget(2, Duration.ofSeconds(1), now::get);
+
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+        assertThat(budget.getAvailable()).isZero();
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(budget.getAvailable()).isEqualTo(1);
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(budget.getAvailable()).describedAs("the bucket does not overflow").isEqualTo(2);
+    }
+
+    @Test
+    public void testBackoffUnderContention() throws Exception {
+        Jdbi jdbi = dbRule.getJdbi();
+        jdbi.useHandle(h -> {
+            h.execute("create table counter (id int primary key, val int, version int)");
+            h.execute("insert into counter values (1, 0, 0)");
+        });
+
+        TransactionRetryStats immediate = runContended(jdbi, TransactionRetryPolicy.immediately());
+        TransactionRetryStats backoff = runContended(jdbi,
+            TransactionRetryPolicy.exponentialBackoff(Duration.ofMillis(1), Duration.ofMillis(50)));
+
+        // every increment either committed or gave up; which policy commits faster is measured by TransactionRetryBenchmark
+        assertThat(immediate.getTransactionCount()).isEqualTo(CONTENDERS * INCREMENTS);
+        assertThat(backoff.getTransactionCount()).isEqualTo(CONTENDERS * INCREMENTS);
+        int total = jdbi.withHandle(h -> h.select("select val from counter").mapTo(int.class).one());
+        assertThat(total).isEqualTo(2 * CONTENDERS * INCREMENTS - immediate.getExhaustedCount() - backoff.getExhaustedCount());
+    }
+
+    // optimistic increments of a single row: a writer that lost the race fails like a serialization failure
+    private TransactionRetryStats runContended(Jdbi jdbi, TransactionRetryPolicy policy) throws Exception {
+        SerializableTransactionRunner runner = new SerializableTransactionRunner();
+        jdbi.setTransactionHandler(runner);
+        jdbi.getConfig(SerializableTransactionRunner.Configuration.class)
+            .setMaxRetries(50)
+            .setRetryPolicy(policy);
+
+        ExecutorService pool = Executors.newFixedThreadPool(CONTENDERS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < CONTENDERS; i++) {
+                futures.add(pool.submit(() -> {
+                    for (int j = 0; j < INCREMENTS; j++) {
+                        try {
+                            jdbi.useTransaction(this::increment);
+                        } catch (SQLException e) {
+                            // exhausted, and counted in the stats
+                            assertThat(e.getSQLState()).isEqualTo("40001");
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return runner.getStats();
+    }
+
+    private void increment(Handle h) throws SQLException {
+        int version = h.select("select version from counter where id = 1").mapTo(int.class).one();
+        Thread.yield();
+        int updated = h.createUpdate("update counter set val = val + 1, version = version + 1 where id = 1 and version = :version")
+            .bind("version", version)
+            .execute();
+        if (updated == 0) {
+            throw new SQLException("concurrent update", "40001");
+        }
+    }
 }
@@ -18,23 +18,43 @@ import java.io.StringWriter;
 
 import freemarker.template.Template;
 import freemarker.template.TemplateException;
+import org.jdbi.v3.core.config.JdbiCache;
+import org.jdbi.v3.core.config.JdbiCaches;
+import org.jdbi.v3.core.internal.exceptions.Unchecked;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.core.statement.TemplateEngine;
 
 /**
  * Rewrites a Freemarker template, using the attributes on the {@link StatementContext} as template parameters.
+ * <p>
+ * Parsed templates are cached by SQL text and shared by every handle of a {@link org.jdbi.v3.core.Jdbi},
+ * in the {@link JdbiCaches} cache named after this class, so a template is only parsed again after it has been
+ * evicted. Size the cache with {@link JdbiCaches#setMaxSize(String, int)}.
  */
 public class FreemarkerEngine implements TemplateEngine {
+    // Freemarker templates are safe to share between threads once built
+    private static final JdbiCache<String, Template> TEMPLATE_CACHE =
+        JdbiCaches.declare(FreemarkerEngine.class.getName(), Unchecked.function(sql -> new Template(null, sql, null)));
+
+    // don't hold on to the buffer of an unusually large statement forever
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private static final ThreadLocal<StringWriter> BUFFER = ThreadLocal.withInitial(StringWriter::new);
+
     @Override
     public String render(String sql, StatementContext ctx) {
         try {
-            Template template = new Template(null, sql, null);
-            StringWriter writer = new StringWriter();
+            Template template = TEMPLATE_CACHE.get(sql, ctx);
+            StringWriter writer = BUFFER.get();
+            writer.getBuffer().setLength(0);
             template.process(ctx.getAttributes(), writer);
-            return writer.toString();
+            String rendered = writer.toString();
+            if (writer.getBuffer().capacity() > MAX_RETAINED_BUFFER) {
+                BUFFER.remove();
+            }
+            return rendered;
         } catch (IOException | TemplateException e) {
             throw new IllegalStateException("Failed to process template: " + sql, e);
         }
-
     }
 }
@@ -19,6 +19,8 @@ import java.util.List;
 
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.config.JdbiCacheStats;
+import org.jdbi.v3.core.config.JdbiCaches;
 import org.jdbi.v3.core.rule.H2DatabaseRule;
 import org.jdbi.v3.freemarker.FreemarkerSqlLocatorTest.SomethingMapper;
 import org.jdbi.v3.sqlobject.SqlObjectPlugin;
@@ -86,6 +88,60 @@ public class FreemarkerEngineTest {
         assertThat(s).containsExactly("Jack");
     }
 
+    @Test
+    public void testCachedTemplateRendersCurrentAttributes() {
+        handle.setTemplateEngine(new FreemarkerEngine());
+
+        assertThat(selectSum(1, 2)).isEqualTo(3);
+        assertThat(selectSum(5, null)).isEqualTo(5);
+        assertThat(selectSum(3, 7)).isEqualTo(10);
+    }
+
+    @Test
+    public void testEvictedTemplateIsParsedAgain() {
+        handle.getConfig(JdbiCaches.class).setMaxSize(FreemarkerEngine.class.getName(), 1);
+        handle.setTemplateEngine(new FreemarkerEngine());
+
+        assertThat(selectSum(1, 2)).isEqualTo(3);
+        assertThat(handle.createQuery("select ${a} * 2").define("a", 4).mapTo(int.class).one()).isEqualTo(8);
+        assertThat(selectSum(5, 6)).isEqualTo(11);
+    }
+
+    @Test
+    public void testUncachedEngine() {
+        handle.getConfig(JdbiCaches.class).setMaxSize(FreemarkerEngine.class.getName(), 0);
+        handle.setTemplateEngine(new FreemarkerEngine());
+
+        assertThat(selectSum(1, 2)).isEqualTo(3);
+        assertThat(selectSum(5, 6)).isEqualTo(11);
+        assertThat(templateCacheStats().getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testOnDemandCallsShareParsedTemplates() {
+        handle.execute("insert into something (id, name) values (6, 'Jack')");
+        Wombat wombat = dbRule.getJdbi().onDemand(Wombat.class);
+
+        assertThat(wombat.findByDefinedId(6L).getName()).isEqualTo("Jack");
+        assertThat(wombat.findByDefinedId(6L).getName()).isEqualTo("Jack");
+
+        JdbiCacheStats stats = templateCacheStats();
+        assertThat(stats.getMissCount()).isEqualTo(1);
+        assertThat(stats.getHitCount()).isEqualTo(1);
+    }
+
+    private JdbiCacheStats templateCacheStats() {
+        return handle.getConfig(JdbiCaches.class).getStats().get(FreemarkerEngine.class.getName());
+    }
+
+    private int selectSum(int a, Integer b) {
+        return handle.createQuery("select ${a}<#if b??> + ${b}</#if>")
+            .define("a", a)
+            .define("b", b)
+            .mapTo(int.class)
+            .one();
+    }
+
     @UseFreemarkerEngine
     @RegisterRowMapper(SomethingMapper.class)
     public interface Wombat {
@@ -13,12 +13,14 @@
  */
 package org.jdbi.v3.gson2;
 
+import java.io.Reader;
 import java.lang.reflect.Type;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
-import org.jdbi.v3.json.JsonMapper;
+import org.jdbi.v3.json.StreamingJsonMapper;
 
-class GsonJsonMapper implements JsonMapper {
+// Gson memoizes its type adapters per type itself, so there is nothing to cache in Gson2Config
+class GsonJsonMapper implements StreamingJsonMapper {
     @Override
     public String toJson(Type type, Object value, ConfigRegistry config) {
         return config.get(Gson2Config.class).getGson().toJson(value, type);
@@ -28,4 +30,9 @@ class GsonJsonMapper implements JsonMapper {
     public Object fromJson(Type type, String json, ConfigRegistry config) {
         return config.get(Gson2Config.class).getGson().fromJson(json, type);
     }
+
+    @Override
+    public Object fromJson(Type type, Reader json, ConfigRegistry config) {
+        return config.get(Gson2Config.class).getGson().fromJson(json, type);
+    }
 }
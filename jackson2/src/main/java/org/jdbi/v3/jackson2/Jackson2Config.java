@@ -13,18 +13,30 @@
  */
 package org.jdbi.v3.jackson2;
 
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.meta.Beta;
 
 /**
  * Configuration class for Jackson 2 integration.
+ * <p>
+ * The {@link ObjectReader} and {@link ObjectWriter} for each type are resolved once and reused until the mapper or a
+ * view is changed, so the {@link ObjectMapper} should be fully configured before it is set here.
  */
 @Beta
 public class Jackson2Config implements JdbiConfig<Jackson2Config> {
     private ObjectMapper mapper;
     private Class<?> serializationView;
     private Class<?> deserializationView;
+    // shared with copies until either side changes the mapper or a view
+    private Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+    private Map<Type, ObjectWriter> writers = new ConcurrentHashMap<>();
 
     public Jackson2Config() {
         this.mapper = new ObjectMapper();
@@ -34,6 +46,8 @@ public class Jackson2Config implements JdbiConfig<Jackson2Config> {
         this.mapper = other.mapper;
         this.serializationView = other.serializationView;
         this.deserializationView = other.deserializationView;
+        this.readers = other.readers;
+        this.writers = other.writers;
     }
 
     /**
@@ -43,6 +57,8 @@ public class Jackson2Config implements JdbiConfig<Jackson2Config> {
      */
     public Jackson2Config setMapper(ObjectMapper mapper) {
         this.mapper = mapper;
+        this.readers = new ConcurrentHashMap<>();
+        this.writers = new ConcurrentHashMap<>();
         return this;
     }
 
@@ -69,6 +85,7 @@ public class Jackson2Config implements JdbiConfig<Jackson2Config> {
      */
     public Jackson2Config setSerializationView(Class<?> serializationView) {
         this.serializationView = serializationView;
+        this.writers = new ConcurrentHashMap<>();
         return this;
     }
 
@@ -86,6 +103,7 @@ public class Jackson2Config implements JdbiConfig<Jackson2Config> {
      */
     public Jackson2Config setDeserializationView(Class<?> deserializationView) {
         this.deserializationView = deserializationView;
+        this.readers = new ConcurrentHashMap<>();
         return this;
     }
 
@@ -96,6 +114,31 @@ public class Jackson2Config implements JdbiConfig<Jackson2Config> {
         return deserializationView;
     }
 
+    ObjectReader getReader(Type type) {
+        // get then put instead of computeIfAbsent, see JDK-8062841
+        ObjectReader reader = readers.get(type);
+        if (reader == null) {
+            reader = mapper.readerFor(mapper.constructType(type));
+            if (deserializationView != null) {
+                reader = reader.withView(deserializationView);
+            }
+            readers.put(type, reader);
+        }
+        return reader;
+    }
+
+    ObjectWriter getWriter(Type type) {
+        ObjectWriter writer = writers.get(type);
+        if (writer == null) {
+            writer = mapper.writerFor(mapper.constructType(type));
+            if (serializationView != null) {
+                writer = writer.withView(serializationView);
+            }
+            writers.put(type, writer);
+        }
+        return writer;
+    }
+
     @Override
     public Jackson2Config createCopy() {
         return new Jackson2Config(this);
@@ -14,26 +14,19 @@
 package org.jdbi.v3.jackson2;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.Type;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectReader;
-import com.fasterxml.jackson.databind.ObjectWriter;
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.result.UnableToProduceResultException;
-import org.jdbi.v3.json.JsonMapper;
+import org.jdbi.v3.json.StreamingJsonMapper;
 
-class JacksonJsonMapper implements JsonMapper {
+class JacksonJsonMapper implements StreamingJsonMapper {
     @Override
     public String toJson(Type type, Object value, ConfigRegistry config) {
         try {
-            Jackson2Config cfg = config.get(Jackson2Config.class);
-            ObjectWriter writer = cfg.getMapper().writerFor(cfg.getMapper().constructType(type));
-            Class<?> view = cfg.getSerializationView();
-            if (view != null) {
-                writer = writer.withView(view);
-            }
-            return writer.writeValueAsString(value);
+            return config.get(Jackson2Config.class).getWriter(type).writeValueAsString(value);
         } catch (JsonProcessingException e) {
             throw new UnableToProduceResultException(e);
         }
@@ -42,13 +35,16 @@ class JacksonJsonMapper implements JsonMapper {
     @Override
     public Object fromJson(Type type, String json, ConfigRegistry config) {
         try {
-            Jackson2Config cfg = config.get(Jackson2Config.class);
-            ObjectReader reader = cfg.getMapper().readerFor(cfg.getMapper().constructType(type));
-            Class<?> view = cfg.getDeserializationView();
-            if (view != null) {
-                reader = reader.withView(view);
-            }
-            return reader.readValue(json);
+            return config.get(Jackson2Config.class).getReader(type).readValue(json);
+        } catch (IOException e) {
+            throw new UnableToProduceResultException(e);
+        }
+    }
+
+    @Override
+    public Object fromJson(Type type, Reader json, ConfigRegistry config) {
+        try {
+            return config.get(Jackson2Config.class).getReader(type).readValue(json);
         } catch (IOException e) {
             throw new UnableToProduceResultException(e);
         }
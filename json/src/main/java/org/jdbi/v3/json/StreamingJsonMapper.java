@@ -0,0 +1,42 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.json;
+
+import java.io.Reader;
+import java.lang.reflect.Type;
+
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * A {@link JsonMapper} that can deserialize JSON directly from a character stream.
+ *
+ * When the configured mapper implements this interface and a {@code @Json Reader} column mapper is registered,
+ * {@code @Json} columns are read through that mapper instead of being materialized as a {@code String} first.
+ * Database plugins register such a mapper where the driver can stream a column without building a {@code String};
+ * the Postgres plugin does. Columns are still read as a {@code String} if a {@code @Json String} column mapper or
+ * a custom {@code String} column mapper is registered.
+ */
+@Beta
+public interface StreamingJsonMapper extends JsonMapper {
+    /**
+     * Deserialize the JSON read from the given reader. The caller closes the reader.
+     *
+     * @param type the type to deserialize to
+     * @param json the JSON text
+     * @param config the config registry
+     * @return the deserialized value
+     */
+    Object fromJson(Type type, Reader json, ConfigRegistry config);
+}
@@ -13,6 +13,8 @@
  */
 package org.jdbi.v3.json.internal;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.Optional;
 
@@ -26,9 +28,12 @@ import org.jdbi.v3.core.result.UnableToProduceResultException;
 import org.jdbi.v3.json.Json;
 import org.jdbi.v3.json.JsonConfig;
 import org.jdbi.v3.json.JsonMapper;
+import org.jdbi.v3.json.StreamingJsonMapper;
 
 /**
- * converts a {@code (@Json) String} fetched by another mapper into a value object
+ * converts a {@code (@Json) String} fetched by another mapper into a value object,
+ * or streams a {@code @Json Reader} fetched by another mapper into a {@link StreamingJsonMapper}
+ * when neither a {@code @Json String} nor a custom {@code String} mapper is registered
  */
 @Json
 public class JsonColumnMapperFactory implements ColumnMapperFactory {
@@ -36,20 +41,36 @@ public class JsonColumnMapperFactory implements ColumnMapperFactory {
         "No column mapper found for '@%s String', or 'String'",
         Json.class.getSimpleName()
     );
+    private static final QualifiedType<String> JSON_STRING = QualifiedType.of(String.class).with(Json.class);
+    private static final QualifiedType<Reader> JSON_READER = QualifiedType.of(Reader.class).with(Json.class);
+    // the built-in mappers are shared by every ColumnMappers, so any other String mapper was registered by the user
+    private static final ColumnMapper<String> BUILT_IN_STRING_MAPPER =
+        new ConfigRegistry().get(ColumnMappers.class).findFor(String.class).orElse(null);
 
     @Override
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
     public Optional<ColumnMapper<?>> build(Type type, ConfigRegistry config) {
-        if (String.class.equals(type)) {
+        if (String.class.equals(type) || Reader.class.equals(type)) {
             return Optional.empty();
         }
         ColumnMappers cm = config.get(ColumnMappers.class);
+        final JsonMapper mapper = config.get(JsonConfig.class).getJsonMapper();
         // look for specialized json support first, revert to simple String mapping if absent
+        Optional<ColumnMapper<String>> qualifiedMapper = cm.findFor(JSON_STRING);
+        Optional<ColumnMapper<String>> stringMapper = cm.findFor(String.class);
+        if (!qualifiedMapper.isPresent()
+            && stringMapper.orElse(null) == BUILT_IN_STRING_MAPPER
+            && mapper instanceof StreamingJsonMapper) {
+            Optional<ColumnMapper<Reader>> readerMapper = cm.findFor(JSON_READER);
+            if (readerMapper.isPresent()) {
+                return Optional.of(streaming(type, (StreamingJsonMapper) mapper, readerMapper.get(), config));
+            }
+        }
         ColumnMapper<String> jsonStringMapper = JdbiOptionals.findFirstPresent(
-                () -> cm.findFor(QualifiedType.of(String.class).with(Json.class)),
-                () -> cm.findFor(String.class))
+                () -> qualifiedMapper,
+                () -> stringMapper)
                 .orElseThrow(() -> new UnableToProduceResultException(JSON_NOT_RETRIEVABLE));
 
-        final JsonMapper mapper = config.get(JsonConfig.class).getJsonMapper();
         return Optional.of((rs, i, ctx) ->
             mapper.fromJson(
                     type,
@@ -57,4 +78,20 @@ public class JsonColumnMapperFactory implements ColumnMapperFactory {
                             .orElse("null"), // sql null -> json null
                     config));
     }
+
+    private static ColumnMapper<?> streaming(Type type,
+                                             StreamingJsonMapper mapper,
+                                             ColumnMapper<Reader> readerMapper,
+                                             ConfigRegistry config) {
+        return (rs, i, ctx) -> {
+            try (Reader json = readerMapper.map(rs, i, ctx)) {
+                if (json == null) {
+                    return mapper.fromJson(type, "null", config); // sql null -> json null
+                }
+                return mapper.fromJson(type, json, config);
+            } catch (IOException e) {
+                throw new UnableToProduceResultException(e, ctx);
+            }
+        };
+    }
 }
@@ -13,6 +13,12 @@
  */
 package org.jdbi.v3.json;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.Objects;
+
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.core.rule.H2DatabaseRule;
@@ -30,6 +36,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class JsonPluginTest {
+    private static final QualifiedType<Reader> JSON_READER = QualifiedType.of(Reader.class).with(Json.class);
+
     @Rule
     public H2DatabaseRule db = new H2DatabaseRule().withPlugin(new JsonPlugin());
     @Rule
@@ -69,10 +77,81 @@ public class JsonPluginTest {
         verify(jsonMapper).toJson(eq(Foo.class), eq(instance), any(ConfigRegistry.class));
     }
 
+    @Test
+    public void streamingMapperReadsJsonReader() {
+        db.getJdbi().getConfig(JsonConfig.class).setJsonMapper(new ReadingJsonMapper());
+        db.getJdbi().registerColumnMapper(JSON_READER, (rs, i, ctx) -> rs.getCharacterStream(i));
+
+        db.getJdbi().useHandle(h -> {
+            h.execute("insert into foo(bar) values('streamed')");
+            h.execute("insert into foo(bar) values(null)");
+
+            assertThat(h.createQuery("select bar from foo order by bar nulls last")
+                .mapTo(QualifiedType.of(String[].class).with(Json.class))
+                .list())
+                .containsExactly(new String[] {"reader", "streamed"}, new String[] {"string", "null"});
+        });
+    }
+
+    @Test
+    public void streamingMapperReadsStringWithoutJsonReader() {
+        db.getJdbi().getConfig(JsonConfig.class).setJsonMapper(new ReadingJsonMapper());
+
+        db.getJdbi().useHandle(h -> {
+            h.execute("insert into foo(bar) values('streamed')");
+
+            assertThat(h.createQuery("select bar from foo")
+                .mapTo(QualifiedType.of(String[].class).with(Json.class))
+                .one())
+                .containsExactly("string", "streamed");
+        });
+    }
+
+    @Test
+    public void streamingMapperHonorsCustomStringMapper() {
+        db.getJdbi().getConfig(JsonConfig.class).setJsonMapper(new ReadingJsonMapper());
+        db.getJdbi().registerColumnMapper(JSON_READER, (rs, i, ctx) -> rs.getCharacterStream(i));
+        db.getJdbi().registerColumnMapper(String.class, (rs, i, ctx) -> rs.getString(i).toUpperCase());
+
+        db.getJdbi().useHandle(h -> {
+            h.execute("insert into foo(bar) values('streamed')");
+
+            assertThat(h.createQuery("select bar from foo")
+                .mapTo(QualifiedType.of(String[].class).with(Json.class))
+                .one())
+                .containsExactly("string", "STREAMED");
+        });
+    }
+
     public static class Foo {
         @Override
         public String toString() {
             return "I am Foot.";
         }
     }
+
+    public static class ReadingJsonMapper implements StreamingJsonMapper {
+        @Override
+        public String toJson(Type type, Object value, ConfigRegistry config) {
+            return Objects.toString(value);
+        }
+
+        @Override
+        public Object fromJson(Type type, String json, ConfigRegistry config) {
+            return new String[] {"string", json};
+        }
+
+        @Override
+        public Object fromJson(Type type, Reader json, ConfigRegistry config) {
+            try {
+                StringBuilder sb = new StringBuilder();
+                for (int c = json.read(); c != -1; c = json.read()) {
+                    sb.append((char) c);
+                }
+                return new String[] {"reader", sb.toString()};
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
 }
@@ -25,6 +25,7 @@ import org.jdbi.v3.core.mapper.reflect.ReflectionMapperUtil.getColumnNames
 import org.jdbi.v3.core.mapper.reflect.ReflectionMappers
 import org.jdbi.v3.core.qualifier.QualifiedType
 import org.jdbi.v3.core.statement.StatementContext
+import java.lang.reflect.Constructor
 import java.sql.ResultSet
 import java.util.Optional
 import java.util.OptionalInt
@@ -37,7 +38,9 @@ import kotlin.reflect.full.findAnnotation
 import kotlin.reflect.full.memberProperties
 import kotlin.reflect.full.primaryConstructor
 import kotlin.reflect.jvm.isAccessible
+import kotlin.reflect.jvm.javaConstructor
 import kotlin.reflect.jvm.javaField
+import kotlin.reflect.jvm.javaSetter
 import kotlin.reflect.jvm.javaType
 import kotlin.reflect.jvm.jvmErasure
 
@@ -53,6 +56,12 @@ class KotlinMapper(clazz: Class<*>, private val prefix: String = "") : RowMapper
             !constructorParameters.any { parameter -> parameter.paramName() == property.propName() }
         }
 
+    private val javaConstructor: Constructor<*>? = constructor.javaConstructor
+        ?.takeIf { it.parameterCount == constructorParameters.size }
+        ?.takeIf { constructorParameters.all { parameter -> parameter.kind == KParameter.Kind.VALUE } }
+        ?.also { it.isAccessible = true }
+    private val javaDefaultsConstructor: Constructor<*>? by lazy { findDefaultsConstructor() }
+
     private val nestedMappers = ConcurrentHashMap<KParameter, KotlinMapper>()
     private val nestedPropertyMappers = ConcurrentHashMap<KMutableProperty1<*, *>, KotlinMapper>()
 
@@ -129,21 +138,70 @@ class KotlinMapper(clazz: Class<*>, private val prefix: String = "") : RowMapper
             // We filter 'null' mappers to remove parameters with no mappers but a default value
             .filterValues { it != null }
 
+        val instantiator = instantiator(constructorParameterMappers)
+        val propertyMappers = memberPropertyMappers.values.map { it!! }.toTypedArray()
+        val propertySetters = memberPropertyMappers.keys.map { it.setterFunction() }.toTypedArray()
+
         return Optional.of(RowMapper { r, c ->
-            val constructorParametersWithValues = constructorParameterMappers
-                .mapValues { it.value?.map(r, c) }
+            instantiator(r, c).also { instance ->
+                for (i in propertySetters.indices) {
+                    propertySetters[i](instance, propertyMappers[i].map(r, c))
+                }
+            }
+        })
+    }
 
-            val memberPropertiesWithValues = memberPropertyMappers
-                .mapValues { it.value?.map(r, c) }
+    /**
+     * Calls the Java constructor with a positional argument array, rather than [KFunction.callBy] with a map of
+     * arguments. Parameters without a column use their default values through the synthetic constructor Kotlin
+     * generates for defaults, with the default masks computed once here.
+     */
+    private fun instantiator(parameterMappers: Map<KParameter, RowMapper<*>?>): (ResultSet, StatementContext) -> Any {
+        val defaultedParameters = constructorParameters.filter { it !in parameterMappers }
+        val target = if (defaultedParameters.isEmpty()) javaConstructor else javaDefaultsConstructor
 
+        if (target == null) {
             constructor.isAccessible = true
-            constructor.callBy(constructorParametersWithValues).also { instance ->
-                memberPropertiesWithValues.forEach { (prop, value) ->
-                    prop.isAccessible = true
-                    prop.setter.call(instance, value)
-                }
+            return { r, c -> constructor.callBy(parameterMappers.mapValues { it.value?.map(r, c) }) }
+        }
+
+        val argumentTemplate = arrayOfNulls<Any?>(target.parameterCount)
+        val parameterTypes = target.parameterTypes
+        // the default masks follow the parameters, before the trailing DefaultConstructorMarker
+        for (i in constructorParameters.size until argumentTemplate.size - 1) {
+            argumentTemplate[i] = 0
+        }
+        defaultedParameters.forEach { parameter ->
+            val maskIndex = constructorParameters.size + parameter.index / Integer.SIZE
+            argumentTemplate[parameter.index] = zeroValue(parameterTypes[parameter.index])
+            argumentTemplate[maskIndex] = (argumentTemplate[maskIndex] as Int) or (1 shl (parameter.index % Integer.SIZE))
+        }
+
+        val indexes = parameterMappers.keys.map { it.index }.toIntArray()
+        val mappers = parameterMappers.values.map { it!! }.toTypedArray()
+
+        return { r, c ->
+            val arguments = argumentTemplate.copyOf()
+            for (i in indexes.indices) {
+                arguments[indexes[i]] = mappers[i].map(r, c)
             }
-        })
+            target.newInstance(*arguments)
+        }
+    }
+
+    private fun findDefaultsConstructor(): Constructor<*>? {
+        val parameterTypes = javaConstructor?.parameterTypes ?: return null
+        val maskCount = (parameterTypes.size + Integer.SIZE - 1) / Integer.SIZE
+
+        return kClass.java.declaredConstructors
+            .firstOrNull { candidate ->
+                val types = candidate.parameterTypes
+                types.size == parameterTypes.size + maskCount + 1 &&
+                    types.last().name == "kotlin.jvm.internal.DefaultConstructorMarker" &&
+                    parameterTypes.indices.all { types[it] == parameterTypes[it] } &&
+                    (parameterTypes.size until types.size - 1).all { types[it] == Integer.TYPE }
+            }
+            ?.also { it.isAccessible = true }
     }
 
     private enum class ParamResolution {
@@ -263,6 +321,28 @@ class KotlinMapper(clazz: Class<*>, private val prefix: String = "") : RowMapper
     }
 }
 
+private fun KMutableProperty1<*, *>.setterFunction(): (Any, Any?) -> Unit {
+    val method = javaSetter
+    if (method == null) {
+        isAccessible = true
+        return { instance, value -> setter.call(instance, value) }
+    }
+    method.isAccessible = true
+    return { instance, value -> method.invoke(instance, value) }
+}
+
+private fun zeroValue(type: Class<*>): Any? = when (type) {
+    java.lang.Boolean.TYPE -> false
+    java.lang.Character.TYPE -> '\u0000'
+    java.lang.Byte.TYPE -> 0.toByte()
+    java.lang.Short.TYPE -> 0.toShort()
+    java.lang.Integer.TYPE -> 0
+    java.lang.Long.TYPE -> 0L
+    java.lang.Float.TYPE -> 0f
+    java.lang.Double.TYPE -> 0.0
+    else -> null
+}
+
 private fun <C : Any> findConstructor(kClass: KClass<C>) : KFunction<C> {
     val annotatedConstructors = kClass.constructors.filter { it.findAnnotation<JdbiConstructor>() != null }
     return when {
@@ -554,4 +554,55 @@ class KotlinMapperTest {
             .first())
             .isEqualTo(ClassWithNullableNestedProperty(1).also { it.nested = NestedDataClass("foo", "bar") })
     }
+
+    data class DataClassWithDefaultConstructorParameters(val id: Int,
+                                                         val count: Long = 7L,
+                                                         val active: Boolean = true,
+                                                         val ratio: Double = 0.5,
+                                                         val name: String = "default")
+
+    @Test
+    fun testDataClassWithDefaultConstructorParameters() {
+        assertThat(handle.select("select 1 as id, 'foo' as name")
+            .mapTo<DataClassWithDefaultConstructorParameters>()
+            .list())
+            .containsExactly(DataClassWithDefaultConstructorParameters(1, name = "foo"))
+
+        assertThat(handle.select("select 2 as id, 3 as count, false as active")
+            .mapTo<DataClassWithDefaultConstructorParameters>()
+            .list())
+            .containsExactly(DataClassWithDefaultConstructorParameters(2, count = 3L, active = false))
+    }
+
+    data class DataClassWithManyDefaultConstructorParameters(
+        val p0: Int = 0, val p1: Int = 1, val p2: Int = 2, val p3: Int = 3, val p4: Int = 4, val p5: Int = 5,
+        val p6: Int = 6, val p7: Int = 7, val p8: Int = 8, val p9: Int = 9, val p10: Int = 10, val p11: Int = 11,
+        val p12: Int = 12, val p13: Int = 13, val p14: Int = 14, val p15: Int = 15, val p16: Int = 16,
+        val p17: Int = 17, val p18: Int = 18, val p19: Int = 19, val p20: Int = 20, val p21: Int = 21,
+        val p22: Int = 22, val p23: Int = 23, val p24: Int = 24, val p25: Int = 25, val p26: Int = 26,
+        val p27: Int = 27, val p28: Int = 28, val p29: Int = 29, val p30: Int = 30, val p31: Int = 31,
+        val p32: Int = 32, val p33: String = "33")
+
+    @Test
+    fun testDataClassWithDefaultsAcrossMaskWords() {
+        assertThat(handle.select("select 100 as p1, 200 as p32")
+            .mapTo<DataClassWithManyDefaultConstructorParameters>()
+            .first())
+            .isEqualTo(DataClassWithManyDefaultConstructorParameters(p1 = 100, p32 = 200))
+    }
+
+    class ClassWithDefaultConstructorParameterAndWritableProperty(val id: Int, val name: String = "default") {
+        var first: String? = null
+    }
+
+    @Test
+    fun testClassWithDefaultConstructorParameterAndWritableProperty() {
+        val result = handle.select("select 1 as id, 'foo' as first")
+            .mapTo<ClassWithDefaultConstructorParameterAndWritableProperty>()
+            .first()
+
+        assertThat(result.id).isEqualTo(1)
+        assertThat(result.name).isEqualTo("default")
+        assertThat(result.first).isEqualTo("foo")
+    }
 }
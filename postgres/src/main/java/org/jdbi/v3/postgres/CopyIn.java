@@ -0,0 +1,156 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.argument.Argument;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.UnableToCreateStatementException;
+import org.jdbi.v3.core.statement.UnableToExecuteStatementException;
+import org.jdbi.v3.core.statement.Update;
+import org.jdbi.v3.meta.Beta;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+/**
+ * Bulk loads rows into a table with {@code COPY ... FROM STDIN}, which is much faster than inserting them with a
+ * {@link org.jdbi.v3.core.statement.PreparedBatch}.
+ * <p>
+ * Rows are streamed to the server as they are read from the iterator or stream, so they are never all held in
+ * memory. Each value is converted by the {@link org.jdbi.v3.core.argument.ArgumentFactory ArgumentFactory}
+ * registered for its class, exactly as if it were bound to a statement, and sent in the {@code COPY} text format.
+ * Arguments that bind streams can't be copied.
+ * <pre>
+ * long rows = CopyIn.into(handle, "person", "id", "name")
+ *     .execute(people.stream().map(p -&gt; Arrays.asList(p.getId(), p.getName())));
+ * </pre>
+ */
+@Beta
+public class CopyIn {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Handle handle;
+    private final String sql;
+
+    private CopyIn(Handle handle, String sql) {
+        this.handle = handle;
+        this.sql = sql;
+    }
+
+    /**
+     * Prepares to copy rows into the given columns of a table. The names are used in the statement as given,
+     * so quote them if they need quoting.
+     *
+     * @param handle the handle to copy through; it must be connected to Postgres
+     * @param table the table to copy into
+     * @param columns the columns each row has values for, in order; all of them if none are given
+     * @return the copy
+     */
+    public static CopyIn into(Handle handle, String table, String... columns) {
+        StringBuilder sql = new StringBuilder("COPY ").append(table);
+        if (columns.length > 0) {
+            sql.append(" (").append(String.join(", ", columns)).append(')');
+        }
+        return new CopyIn(handle, sql.append(" FROM STDIN").toString());
+    }
+
+    /**
+     * @return the {@code COPY} statement this copy executes
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * Copies every row of the stream, and closes it.
+     *
+     * @param rows the rows, each a list of column values
+     * @return the number of rows copied
+     */
+    public long execute(Stream<? extends List<?>> rows) {
+        try (Stream<? extends List<?>> stream = rows) {
+            return execute(stream.iterator());
+        }
+    }
+
+    /**
+     * Copies every row of the iterator.
+     *
+     * @param rows the rows, each a list of column values
+     * @return the number of rows copied
+     */
+    public long execute(Iterator<? extends List<?>> rows) {
+        // the update is never executed: it only provides the statement context arguments are resolved in
+        try (Update statement = handle.createUpdate(sql)) {
+            StatementContext ctx = statement.getContext();
+            try {
+                return copy(rows, ctx);
+            } catch (SQLException e) {
+                throw new UnableToExecuteStatementException(e, ctx);
+            }
+        }
+    }
+
+    private long copy(Iterator<? extends List<?>> rows, StatementContext ctx) throws SQLException {
+        CopyManager copyApi = handle.getConnection().unwrap(PGConnection.class).getCopyAPI();
+        CopyText.ArgumentEncoder encoder = new CopyText.ArgumentEncoder(handle.getConnection());
+        // written straight to the copy operation rather than through PGCopyOutputStream, whose close() would commit
+        // the rows written so far when a row fails to encode
+        org.postgresql.copy.CopyIn copy = copyApi.copyIn(sql);
+        try {
+            StringBuilder buffer = new StringBuilder(BUFFER_SIZE);
+            while (rows.hasNext()) {
+                List<?> values = rows.next();
+                for (int i = 0; i < values.size(); i++) {
+                    if (i > 0) {
+                        buffer.append('\t');
+                    }
+                    CopyText.appendField(buffer, encode(values.get(i), encoder, ctx));
+                }
+                buffer.append('\n');
+                if (buffer.length() >= BUFFER_SIZE) {
+                    flush(copy, buffer);
+                }
+            }
+            flush(copy, buffer);
+            return copy.endCopy();
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+    }
+
+    private static void flush(org.postgresql.copy.CopyIn copy, StringBuilder buffer) throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copy.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    private static String encode(Object value, CopyText.ArgumentEncoder encoder, StatementContext ctx) throws SQLException {
+        if (value == null) {
+            return null;
+        }
+        Argument argument = ctx.findArgumentFor(value.getClass(), value)
+            .orElseThrow(() -> new UnableToCreateStatementException(
+                "No argument factory registered for '" + value + "' of type " + value.getClass(), ctx));
+        return encoder.encode(argument, ctx);
+    }
+}
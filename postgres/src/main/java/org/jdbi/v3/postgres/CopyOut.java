@@ -0,0 +1,125 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.result.ResultBearing;
+import org.jdbi.v3.core.result.ResultSetException;
+import org.jdbi.v3.core.result.ResultSetScanner;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.UnableToExecuteStatementException;
+import org.jdbi.v3.meta.Beta;
+import org.postgresql.PGConnection;
+
+/**
+ * Streams the rows of a table or query out of the database with {@code COPY ... TO STDOUT}, and maps them with
+ * the registered row and column mappers like any other result.
+ * <p>
+ * Rows are read from the server one at a time as the result is iterated. They are mapped from the
+ * {@code COPY} text format through a result set that parses each value from text on request, so mappers
+ * that rely on driver specific objects from {@link ResultSet#getObject(int)} may see a string instead.
+ * The connection can't be used for anything else until the result is fully read or closed; closing it early
+ * reads and discards the remaining rows.
+ * <pre>
+ * try (Stream&lt;Person&gt; people = CopyOut.from(handle, "person").mapToBean(Person.class).stream()) {
+ *     ...
+ * }
+ * </pre>
+ */
+@Beta
+public class CopyOut implements ResultBearing {
+    private final Handle handle;
+    private final String sql;
+    private final String query;
+
+    private CopyOut(Handle handle, String sql, String query) {
+        this.handle = handle;
+        this.sql = sql;
+        this.query = query;
+    }
+
+    /**
+     * Prepares to copy the given columns of a table. The names are used in the statement as given, so quote them
+     * if they need quoting.
+     *
+     * @param handle the handle to copy through; it must be connected to Postgres
+     * @param table the table to copy from
+     * @param columns the columns to copy; all of them if none are given
+     * @return the copy
+     */
+    public static CopyOut from(Handle handle, String table, String... columns) {
+        String columnList = columns.length == 0 ? "*" : String.join(", ", columns);
+        StringBuilder sql = new StringBuilder("COPY ").append(table);
+        if (columns.length > 0) {
+            sql.append(" (").append(columnList).append(')');
+        }
+        return new CopyOut(handle, sql.append(" TO STDOUT").toString(), "SELECT " + columnList + " FROM " + table);
+    }
+
+    /**
+     * Prepares to copy the results of a query. The query can't have parameters.
+     *
+     * @param handle the handle to copy through; it must be connected to Postgres
+     * @param query the query to copy the results of
+     * @return the copy
+     */
+    public static CopyOut query(Handle handle, String query) {
+        return new CopyOut(handle, "COPY (" + query + ") TO STDOUT", query);
+    }
+
+    /**
+     * @return the {@code COPY} statement this copy executes
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    @Override
+    public <R> R scanResultSet(ResultSetScanner<R> mapper) {
+        // the update is never executed: it only provides the statement context mappers are resolved in
+        StatementContext ctx = handle.createUpdate(sql).getContext();
+        try {
+            return mapper.scanResultSet(() -> start(ctx), ctx);
+        } catch (SQLException e) {
+            ctx.close();
+            throw new ResultSetException("Error reading result set", e, ctx);
+        }
+    }
+
+    private ResultSet start(StatementContext ctx) {
+        try {
+            CopyResultSet rows;
+            // column labels and types come from the query; they must be read before the copy takes the connection
+            try (PreparedStatement describe = handle.getConnection().prepareStatement(query)) {
+                rows = new CopyResultSet(describe.getMetaData());
+            }
+            org.postgresql.copy.CopyOut copy = handle.getConnection().unwrap(PGConnection.class).getCopyAPI().copyOut(sql);
+            // cancelling a copy out is asynchronous and may hit the next statement instead, so finish it
+            ctx.addCleanable(() -> {
+                byte[] discarded;
+                do {
+                    discarded = copy.isActive() ? copy.readFromCopy() : null;
+                } while (discarded != null);
+            });
+            return rows.start(copy);
+        } catch (SQLException e) {
+            ctx.close();
+            throw new UnableToExecuteStatementException(e, ctx);
+        }
+    }
+}
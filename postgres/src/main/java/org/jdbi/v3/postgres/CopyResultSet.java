@@ -0,0 +1,315 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import org.postgresql.copy.CopyOut;
+
+/**
+ * A forward-only {@link ResultSet} over the rows of a {@code COPY ... TO STDOUT} in text format, read one row at a
+ * time. Values are parsed from their text form on request, guided by the column types of the copied query.
+ * Only the getters that mappers commonly use are supported.
+ */
+class CopyResultSet implements InvocationHandler {
+    private CopyOut copy;
+    private final String[] labels;
+    private final int[] types;
+    private final String[] typeNames;
+    private final ResultSet resultSet;
+    private final ResultSetMetaData metaData;
+
+    private String[] row;
+    private boolean wasNull;
+    private boolean closed;
+
+    /**
+     * @param queryMetaData the metadata of the copied query; it is read right away, before the copy starts
+     */
+    @SuppressWarnings("PMD.UseProperClassLoader")
+    CopyResultSet(ResultSetMetaData queryMetaData) throws SQLException {
+        int count = queryMetaData.getColumnCount();
+        this.labels = new String[count];
+        this.types = new int[count];
+        this.typeNames = new String[count];
+        for (int i = 0; i < count; i++) {
+            labels[i] = queryMetaData.getColumnLabel(i + 1);
+            types[i] = queryMetaData.getColumnType(i + 1);
+            typeNames[i] = queryMetaData.getColumnTypeName(i + 1);
+        }
+        this.resultSet = (ResultSet) Proxy.newProxyInstance(
+            CopyResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class}, this);
+        this.metaData = (ResultSetMetaData) Proxy.newProxyInstance(
+            CopyResultSet.class.getClassLoader(), new Class<?>[] {ResultSetMetaData.class}, this::invokeMetaData);
+    }
+
+    /**
+     * @param copy the started copy to read rows from
+     * @return the rows of the copy
+     */
+    ResultSet start(CopyOut copy) {
+        this.copy = copy;
+        return resultSet;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    public Object invoke(Object proxy, Method method, Object[] args) throws ReflectiveOperationException, SQLException {
+        String name = method.getName();
+        if (method.getDeclaringClass() == Object.class) {
+            return "equals".equals(name) ? proxy == args[0] : method.invoke(this, args);
+        }
+        switch (name) {
+            case "next":
+                return next();
+            case "close":
+                closed = true;
+                return null;
+            case "isClosed":
+                return closed;
+            case "wasNull":
+                return wasNull;
+            case "getMetaData":
+                return metaData;
+            case "findColumn":
+                return findColumn((String) args[0]);
+            case "getWarnings":
+            case "getStatement":
+                return null;
+            case "clearWarnings":
+            case "setFetchSize":
+            case "setFetchDirection":
+                return null;
+            case "getType":
+                return ResultSet.TYPE_FORWARD_ONLY;
+            case "getConcurrency":
+                return ResultSet.CONCUR_READ_ONLY;
+            case "getFetchDirection":
+                return ResultSet.FETCH_FORWARD;
+            case "getFetchSize":
+                return 0;
+            case "isWrapperFor":
+                return false;
+            default:
+                break;
+        }
+        if (name.startsWith("get") && args != null && (args.length == 1 || args.length == 2 && args[1] instanceof Class)) {
+            int column = args[0] instanceof String ? findColumn((String) args[0]) : (Integer) args[0];
+            String text = text(column);
+            wasNull = text == null;
+            Class<?> type = args.length == 2 ? (Class<?>) args[1] : method.getReturnType();
+            if ("getObject".equals(name) && args.length == 1) {
+                return text == null ? null : parseObject(column, text);
+            }
+            if (text == null) {
+                return type.isPrimitive() ? defaultValue(type) : null;
+            }
+            return parse(text, type, name);
+        }
+        throw new SQLFeatureNotSupportedException("ResultSet." + name + " is not supported on COPY results");
+    }
+
+    private Object invokeMetaData(Object proxy, Method method, Object[] args) throws ReflectiveOperationException, SQLException {
+        String name = method.getName();
+        if (method.getDeclaringClass() == Object.class) {
+            return "equals".equals(name) ? proxy == args[0] : method.invoke(this, args);
+        }
+        switch (name) {
+            case "getColumnCount":
+                return labels.length;
+            case "getColumnLabel":
+            case "getColumnName":
+                return labels[(Integer) args[0] - 1];
+            case "getColumnType":
+                return types[(Integer) args[0] - 1];
+            case "getColumnTypeName":
+                return typeNames[(Integer) args[0] - 1];
+            default:
+                throw new SQLFeatureNotSupportedException("ResultSetMetaData." + name + " is not supported on COPY results");
+        }
+    }
+
+    private boolean next() throws SQLException {
+        byte[] line = closed ? null : copy.readFromCopy();
+        if (line == null) {
+            row = null;
+            return false;
+        }
+        row = CopyText.parseRow(new String(line, StandardCharsets.UTF_8), labels.length);
+        return true;
+    }
+
+    private int findColumn(String label) throws SQLException {
+        for (int i = 0; i < labels.length; i++) {
+            if (labels[i].equalsIgnoreCase(label)) {
+                return i + 1;
+            }
+        }
+        throw new SQLException("No column labelled " + label);
+    }
+
+    private String text(int column) throws SQLException {
+        if (row == null) {
+            throw new SQLException("Not on a row");
+        }
+        if (column < 1 || column > row.length) {
+            throw new SQLException("No column " + column);
+        }
+        return row[column - 1];
+    }
+
+    private Object parseObject(int column, String text) throws SQLException {
+        switch (types[column - 1]) {
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return parse(text, Boolean.class, "getObject");
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return Integer.valueOf(text);
+            case Types.BIGINT:
+                return Long.valueOf(text);
+            case Types.REAL:
+                return Float.valueOf(text);
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return Double.valueOf(text);
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return new BigDecimal(text);
+            case Types.DATE:
+                return Date.valueOf(text);
+            case Types.TIME:
+                return Time.valueOf(LocalTime.parse(text));
+            case Types.TIMESTAMP:
+                return parse(text, Timestamp.class, "getObject");
+            case Types.BINARY:
+            case Types.VARBINARY:
+                return CopyText.unhex(text);
+            default:
+                return "uuid".equals(typeNames[column - 1]) ? UUID.fromString(text) : text;
+        }
+    }
+
+    @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.NPathComplexity"})
+    private static Object parse(String text, Class<?> type, String getter) throws SQLException {
+        if (type == String.class || type == Object.class) {
+            return text;
+        }
+        if (type == int.class || type == Integer.class) {
+            return Integer.valueOf(text);
+        }
+        if (type == long.class || type == Long.class) {
+            return Long.valueOf(text);
+        }
+        if (type == short.class || type == Short.class) {
+            return Short.valueOf(text);
+        }
+        if (type == byte.class || type == Byte.class) {
+            return Byte.valueOf(text);
+        }
+        if (type == double.class || type == Double.class) {
+            return Double.valueOf(text);
+        }
+        if (type == float.class || type == Float.class) {
+            return Float.valueOf(text);
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return "t".equals(text) || "true".equalsIgnoreCase(text) || "1".equals(text);
+        }
+        if (type == BigDecimal.class) {
+            return new BigDecimal(text);
+        }
+        if (type == byte[].class) {
+            return CopyText.unhex(text);
+        }
+        if (type == UUID.class) {
+            return UUID.fromString(text);
+        }
+        if (type == Date.class) {
+            return Date.valueOf(text);
+        }
+        if (type == LocalDate.class) {
+            return LocalDate.parse(text);
+        }
+        if (type == Time.class) {
+            return Time.valueOf(LocalTime.parse(text));
+        }
+        if (type == LocalTime.class) {
+            return LocalTime.parse(text);
+        }
+        if (type == Timestamp.class) {
+            return hasOffset(text)
+                ? Timestamp.from(parseOffsetDateTime(text).toInstant())
+                : Timestamp.valueOf(text);
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.parse(text.replace(' ', 'T'));
+        }
+        if (type == OffsetDateTime.class) {
+            return parseOffsetDateTime(text);
+        }
+        throw new SQLFeatureNotSupportedException("Can't read " + type.getName() + " from COPY text using " + getter);
+    }
+
+    private static boolean hasOffset(String text) {
+        int time = text.indexOf(' ');
+        return time > 0 && (text.indexOf('+', time) > 0 || text.indexOf('-', time) > 0);
+    }
+
+    private static OffsetDateTime parseOffsetDateTime(String text) {
+        String iso = text.replace(' ', 'T');
+        int sign = Math.max(iso.lastIndexOf('+'), iso.lastIndexOf('-'));
+        // Postgres leaves out the minutes of whole-hour offsets
+        return OffsetDateTime.parse(iso.length() - sign == 3 ? iso + ":00" : iso);
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == float.class) {
+            return 0f;
+        }
+        if (type == double.class) {
+            return 0d;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        return 0;
+    }
+}
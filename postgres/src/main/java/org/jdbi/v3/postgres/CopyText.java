@@ -0,0 +1,253 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TimeZone;
+
+import org.jdbi.v3.core.argument.Argument;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.postgresql.util.PGobject;
+
+/**
+ * Reads and writes the fields of the {@code COPY} text format.
+ */
+final class CopyText {
+    static final String NULL = "\\N";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private CopyText() {}
+
+    /**
+     * Appends the text of the given field, escaped for the {@code COPY} text format.
+     */
+    static void appendField(StringBuilder row, String value) {
+        if (value == null) {
+            row.append(NULL);
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    row.append("\\\\");
+                    break;
+                case '\n':
+                    row.append("\\n");
+                    break;
+                case '\r':
+                    row.append("\\r");
+                    break;
+                case '\t':
+                    row.append("\\t");
+                    break;
+                default:
+                    row.append(c);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Splits one line of {@code COPY} text output into its unescaped fields; SQL NULL fields are {@code null}.
+     */
+    static String[] parseRow(String line, int expectedFields) {
+        List<String> fields = new ArrayList<>(expectedFields);
+        int end = line.length();
+        if (end > 0 && line.charAt(end - 1) == '\n') {
+            end--;
+        }
+        int start = 0;
+        for (int i = 0; i <= end; i++) {
+            if (i == end || line.charAt(i) == '\t') {
+                fields.add(unescape(line, start, i));
+                start = i + 1;
+            }
+        }
+        return fields.toArray(new String[0]);
+    }
+
+    private static String unescape(String line, int start, int end) {
+        if (end - start == NULL.length() && line.startsWith(NULL, start)) {
+            return null;
+        }
+        int backslash = line.indexOf('\\', start);
+        if (backslash < 0 || backslash >= end) {
+            return line.substring(start, end);
+        }
+        StringBuilder value = new StringBuilder(end - start);
+        int i = start;
+        while (i < end) {
+            char c = line.charAt(i++);
+            if (c != '\\' || i == end) {
+                value.append(c);
+                continue;
+            }
+            char escaped = line.charAt(i++);
+            switch (escaped) {
+                case 'b':
+                    value.append('\b');
+                    break;
+                case 'f':
+                    value.append('\f');
+                    break;
+                case 'n':
+                    value.append('\n');
+                    break;
+                case 'r':
+                    value.append('\r');
+                    break;
+                case 't':
+                    value.append('\t');
+                    break;
+                case 'v':
+                    value.append('\u000b');
+                    break;
+                case 'x': {
+                    int digitsEnd = i;
+                    while (digitsEnd < end && digitsEnd < i + 2 && Character.digit(line.charAt(digitsEnd), 16) >= 0) {
+                        digitsEnd++;
+                    }
+                    value.append(digitsEnd == i ? 'x' : (char) Integer.parseInt(line.substring(i, digitsEnd), 16));
+                    i = digitsEnd;
+                    break;
+                }
+                default:
+                    if (escaped >= '0' && escaped <= '7') {
+                        int digitsEnd = i;
+                        while (digitsEnd < end && digitsEnd < i + 2 && line.charAt(digitsEnd) >= '0' && line.charAt(digitsEnd) <= '7') {
+                            digitsEnd++;
+                        }
+                        value.append((char) Integer.parseInt(line.substring(i - 1, digitsEnd), 8));
+                        i = digitsEnd;
+                    } else {
+                        value.append(escaped);
+                    }
+                    break;
+            }
+        }
+        return value.toString();
+    }
+
+    static String hex(byte[] bytes) {
+        StringBuilder result = new StringBuilder(2 + bytes.length * 2).append("\\x");
+        for (byte b : bytes) {
+            result.append(HEX[(b >> 4) & 0xf]).append(HEX[b & 0xf]);
+        }
+        return result.toString();
+    }
+
+    static byte[] unhex(String value) {
+        if (!value.startsWith("\\x")) {
+            throw new IllegalArgumentException("Only hex bytea output is supported: " + value);
+        }
+        byte[] bytes = new byte[(value.length() - 2) / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(value.substring(2 + 2 * i, 4 + 2 * i), 16);
+        }
+        return bytes;
+    }
+
+    /**
+     * Turns arguments into {@code COPY} text by applying them to a statement that only records the bound value.
+     * Only setters whose values have a text form are supported; streams, LOBs and the like are rejected.
+     */
+    static class ArgumentEncoder implements InvocationHandler {
+        private static final Set<String> SETTERS = new HashSet<>(Arrays.asList(
+            "setBoolean", "setByte", "setShort", "setInt", "setLong", "setFloat", "setDouble", "setBigDecimal",
+            "setString", "setNString", "setBytes", "setDate", "setTime", "setTimestamp", "setObject", "setArray"));
+
+        private final Connection connection;
+        private final PreparedStatement statement;
+        private Object value;
+        private TimeZone timeZone;
+
+        @SuppressWarnings("PMD.UseProperClassLoader")
+        ArgumentEncoder(Connection connection) {
+            this.connection = connection;
+            this.statement = (PreparedStatement) Proxy.newProxyInstance(
+                CopyText.class.getClassLoader(), new Class<?>[] {PreparedStatement.class}, this);
+        }
+
+        String encode(Argument argument, StatementContext ctx) throws SQLException {
+            value = null;
+            timeZone = TimeZone.getDefault();
+            argument.apply(1, statement, ctx);
+            return toText(value, timeZone);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws ReflectiveOperationException, SQLException {
+            String name = method.getName();
+            if (method.getDeclaringClass() == Object.class) {
+                return "equals".equals(name) ? proxy == args[0] : method.invoke(this, args);
+            }
+            if ("getConnection".equals(name)) {
+                return connection;
+            }
+            if ("setNull".equals(name)) {
+                value = null;
+                return null;
+            }
+            if (SETTERS.contains(name) && args.length >= 2) {
+                value = args[1];
+                if (args.length == 3 && args[2] instanceof Calendar) {
+                    timeZone = ((Calendar) args[2]).getTimeZone();
+                }
+                return null;
+            }
+            throw new SQLFeatureNotSupportedException("COPY can't encode arguments that call " + name);
+        }
+
+        private static String toText(Object value, TimeZone timeZone) throws SQLException {
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof Timestamp) {
+                // with its offset, as the driver sends it, so timestamptz columns don't read it in the session zone
+                return ((Timestamp) value).toInstant().atZone(timeZone.toZoneId()).toOffsetDateTime().toString();
+            }
+            if (value instanceof InputStream || value instanceof Reader) {
+                throw new SQLFeatureNotSupportedException("COPY can't encode streams");
+            }
+            if (value instanceof Boolean) {
+                return (Boolean) value ? "t" : "f";
+            }
+            if (value instanceof byte[]) {
+                return hex((byte[]) value);
+            }
+            if (value instanceof PGobject) {
+                return ((PGobject) value).getValue();
+            }
+            // everything else, including the driver's arrays, prints as its Postgres literal
+            return value.toString();
+        }
+    }
+}
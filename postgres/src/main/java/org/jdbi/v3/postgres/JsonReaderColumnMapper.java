@@ -0,0 +1,38 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.json.Json;
+
+/**
+ * Streams json and jsonb columns as they came over the wire. pgjdbc always talks to the server in UTF-8, and
+ * its binary stream reads the received bytes without building a String first, as its character stream would.
+ */
+@Json
+class JsonReaderColumnMapper implements ColumnMapper<Reader> {
+    @Override
+    public Reader map(ResultSet r, int columnNumber, StatementContext ctx) throws SQLException {
+        InputStream json = r.getBinaryStream(columnNumber);
+        return json == null ? null : new InputStreamReader(json, StandardCharsets.UTF_8);
+    }
+}
@@ -15,11 +15,13 @@ package org.jdbi.v3.postgres;
 
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.generic.GenericType;
 import org.jdbi.v3.core.internal.JdbiClassUtils;
+import org.jdbi.v3.core.internal.WeakIdentityMap;
 import org.jdbi.v3.core.internal.exceptions.Unchecked;
 import org.jdbi.v3.core.spi.JdbiPlugin;
 import org.postgresql.PGConnection;
@@ -93,6 +95,9 @@ import org.postgresql.util.PGmoney;
  * interval (and consequently, a column-mapped Period) of <em>-2 years, -10 months</em>, and -1 days.
  */
 public class PostgresPlugin implements JdbiPlugin {
+    // custom types already added to each physical connection; pooled connections keep them across handles
+    private final WeakIdentityMap<PGConnection, Map<String, Class<?>>> connectionTypes = new WeakIdentityMap<>();
+
     @Override
     public void customizeJdbi(Jdbi jdbi) {
         jdbi.registerArgument(new TypedEnumArgumentFactory());
@@ -142,12 +147,14 @@ public class PostgresPlugin implements JdbiPlugin {
         // optional integration
         if (JdbiClassUtils.isPresent("org.jdbi.v3.json.JsonConfig")) {
             jdbi.registerArgument(new JsonArgumentFactory());
+            jdbi.registerColumnMapper(new JsonReaderColumnMapper());
         }
     }
 
     @Override
     public Handle customizeHandle(Handle handle) {
         PGConnection pgConnection = Unchecked.supplier(() -> handle.getConnection().unwrap(PGConnection.class)).get();
-        return handle.configure(PostgresTypes.class, pt -> pt.addTypesToConnection(pgConnection));
+        Map<String, Class<?>> added = connectionTypes.computeIfAbsent(pgConnection, c -> new ConcurrentHashMap<>());
+        return handle.configure(PostgresTypes.class, pt -> pt.addTypesToConnection(pgConnection, added));
     }
 }
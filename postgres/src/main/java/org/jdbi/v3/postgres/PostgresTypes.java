@@ -57,12 +57,18 @@ public class PostgresTypes implements JdbiConfig<PostgresTypes> {
     }
 
     /**
-     * Add handler for each registered PostgreSQL custom type
+     * Add handler for each registered PostgreSQL custom type the connection does not have yet
      *
      * @param connection connection on which to add all registered PostgreSQL custom types
+     * @param added type name to class of the types already added to the connection, updated with the ones added now
      */
-    void addTypesToConnection(PGConnection connection) {
-        types.forEach((clazz, type) -> Unchecked.<String, Class>biConsumer(connection::addDataType).accept(type, clazz));
+    void addTypesToConnection(PGConnection connection, Map<String, Class<?>> added) {
+        types.forEach((clazz, type) -> {
+            if (added.get(type) != clazz) {
+                Unchecked.<String, Class>biConsumer(connection::addDataType).accept(type, clazz);
+                added.put(type, clazz);
+            }
+        });
     }
 
     @Override
@@ -0,0 +1,221 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres;
+
+import java.io.StringReader;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.statement.UnableToExecuteStatementException;
+import org.jdbi.v3.testing.JdbiRule;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestCopy {
+    @ClassRule
+    public static JdbiRule db = PostgresDbRule.rule();
+
+    public Handle h;
+
+    @Before
+    public void setUp() {
+        h = db.getHandle();
+        h.useTransaction(th -> {
+            th.execute("DROP TABLE IF EXISTS copied");
+            th.execute("CREATE TABLE copied (id INTEGER PRIMARY KEY, name VARCHAR, born DATE, tag UUID, active BOOLEAN, data BYTEA)");
+        });
+    }
+
+    @Test
+    public void testCopyInAndOut() {
+        UUID tag = UUID.randomUUID();
+        long copied = CopyIn.into(h, "copied", "id", "name", "born", "tag", "active", "data")
+            .execute(Stream.of(
+                Arrays.asList(1, "tab\there\nand back\\slash", LocalDate.of(2000, 1, 31), tag, true, new byte[] {0, 1, -1}),
+                Arrays.asList(2, null, null, null, false, null)));
+
+        assertThat(copied).isEqualTo(2);
+        assertThat(h.createQuery("SELECT name FROM copied WHERE id = 1").mapTo(String.class).one())
+            .isEqualTo("tab\there\nand back\\slash");
+
+        List<Copied> rows = CopyOut.query(h, "SELECT * FROM copied ORDER BY id").mapToBean(Copied.class).list();
+        assertThat(rows).hasSize(2);
+
+        Copied first = rows.get(0);
+        assertThat(first.getId()).isEqualTo(1);
+        assertThat(first.getName()).isEqualTo("tab\there\nand back\\slash");
+        assertThat(first.getBorn()).isEqualTo(LocalDate.of(2000, 1, 31));
+        assertThat(first.getTag()).isEqualTo(tag);
+        assertThat(first.isActive()).isTrue();
+        assertThat(first.getData()).containsExactly(0, 1, -1);
+
+        Copied second = rows.get(1);
+        assertThat(second.getName()).isNull();
+        assertThat(second.getBorn()).isNull();
+        assertThat(second.getTag()).isNull();
+        assertThat(second.isActive()).isFalse();
+        assertThat(second.getData()).isNull();
+    }
+
+    @Test
+    public void testCopyStreamsRows() {
+        int count = 10_000;
+        Iterator<List<?>> rows = IntStream.range(0, count)
+            .<List<?>>mapToObj(i -> Arrays.asList(i, "name " + i))
+            .iterator();
+
+        assertThat(CopyIn.into(h, "copied", "id", "name").execute(rows)).isEqualTo(count);
+
+        assertThat(CopyOut.from(h, "copied", "id").mapTo(int.class).stream().mapToLong(i -> i).sum())
+            .isEqualTo((long) count * (count - 1) / 2);
+        assertThat(h.createQuery("SELECT count(*) FROM copied").mapTo(int.class).one()).isEqualTo(count);
+    }
+
+    @Test
+    public void testCopyOutToMaps() {
+        CopyIn.into(h, "copied", "id", "name").execute(Stream.of(Arrays.asList(1, "one")));
+
+        Map<String, Object> row = CopyOut.from(h, "copied", "id", "name").mapToMap().one();
+        assertThat(row).containsEntry("id", 1).containsEntry("name", "one");
+    }
+
+    @Test
+    public void testFailedCopyInLeavesConnectionUsable() {
+        assertThatThrownBy(() -> CopyIn.into(h, "copied", "id", "name")
+                .execute(Stream.of(Arrays.asList(1, "one"), Arrays.asList(1, "duplicate"))))
+            .isInstanceOf(UnableToExecuteStatementException.class);
+
+        assertThat(h.createQuery("SELECT count(*) FROM copied").mapTo(int.class).one()).isZero();
+    }
+
+    @Test
+    public void testClosingCopyOutEarlyLeavesConnectionUsable() {
+        CopyIn.into(h, "copied", "id").execute(IntStream.range(0, 100).<List<?>>mapToObj(Arrays::asList));
+
+        assertThat(CopyOut.from(h, "copied", "id").mapTo(int.class).findFirst()).isPresent();
+
+        assertThat(h.createQuery("SELECT count(*) FROM copied").mapTo(int.class).one()).isEqualTo(100);
+    }
+
+    @Test
+    public void testTimestampsKeepTheirInstantWhenSessionZoneDiffers() {
+        Instant instant = Instant.parse("2018-03-25T01:30:00.123456Z");
+        String sessionZone = ZoneId.systemDefault().getRules().getOffset(instant).getTotalSeconds() == 0
+            ? "Pacific/Chatham"
+            : "UTC";
+        h.execute("DROP TABLE IF EXISTS stamped");
+        h.execute("CREATE TABLE stamped (id INTEGER, at TIMESTAMPTZ)");
+        h.execute("SET TIME ZONE '" + sessionZone + "'");
+        try {
+            CopyIn.into(h, "stamped", "id", "at").execute(Stream.of(Arrays.asList(1, instant)));
+
+            assertThat(h.createQuery("SELECT at FROM stamped").mapTo(Instant.class).one()).isEqualTo(instant);
+        } finally {
+            h.execute("RESET TIME ZONE");
+        }
+    }
+
+    @Test
+    public void testArgumentsWithoutTextFormAreRejected() {
+        h.registerArgument((type, value, config) -> type == Note.class
+            ? Optional.of((position, statement, ctx) -> statement.setClob(position, new StringReader(((Note) value).text)))
+            : Optional.empty());
+
+        assertThatThrownBy(() -> CopyIn.into(h, "copied", "id", "name").execute(Stream.of(Arrays.asList(1, new Note("clob")))))
+            .isInstanceOf(UnableToExecuteStatementException.class)
+            .hasCauseInstanceOf(SQLFeatureNotSupportedException.class);
+
+        assertThat(h.createQuery("SELECT count(*) FROM copied").mapTo(int.class).one()).isZero();
+    }
+
+    static class Note {
+        final String text;
+
+        Note(String text) {
+            this.text = text;
+        }
+    }
+
+    public static class Copied {
+        private int id;
+        private String name;
+        private LocalDate born;
+        private UUID tag;
+        private boolean active;
+        private byte[] data;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public LocalDate getBorn() {
+            return born;
+        }
+
+        public void setBorn(LocalDate born) {
+            this.born = born;
+        }
+
+        public UUID getTag() {
+            return tag;
+        }
+
+        public void setTag(UUID tag) {
+            this.tag = tag;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public byte[] getData() {
+            return data;
+        }
+
+        public void setData(byte[] data) {
+            this.data = data;
+        }
+    }
+}
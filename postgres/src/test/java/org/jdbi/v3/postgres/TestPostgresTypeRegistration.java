@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.postgres;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jdbi.v3.core.ConnectionFactory;
+import org.jdbi.v3.core.Jdbi;
+import org.junit.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.util.PGobject;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestPostgresTypeRegistration {
+    private final List<String> added = new ArrayList<>();
+
+    @Test
+    public void testTypesAreAddedOncePerPhysicalConnection() {
+        Connection physical = connection();
+        Connection other = connection();
+        List<Connection> checkouts = new ArrayList<>();
+        checkouts.add(physical);
+        checkouts.add(physical);
+        checkouts.add(other);
+
+        Jdbi jdbi = Jdbi.create(new ConnectionFactory() {
+            @Override
+            public Connection openConnection() {
+                return checkouts.remove(0);
+            }
+
+            @Override
+            public void closeConnection(Connection conn) {}
+        });
+        jdbi.installPlugin(new PostgresPlugin())
+            .configure(PostgresTypes.class, pt -> pt.registerCustomType(FooBarPGType.class, "foo_bar_type"));
+
+        jdbi.useHandle(h -> {});
+        jdbi.useHandle(h -> {});
+        assertThat(added).containsExactly("foo_bar_type");
+
+        jdbi.useHandle(h -> {});
+        assertThat(added).containsExactly("foo_bar_type", "foo_bar_type");
+    }
+
+    @Test
+    public void testTypesRegisteredLaterReachConnectionsAlreadySeen() {
+        Connection physical = connection();
+        Jdbi jdbi = Jdbi.create(() -> physical);
+        jdbi.installPlugin(new PostgresPlugin())
+            .configure(PostgresTypes.class, pt -> pt.registerCustomType(FooBarPGType.class, "foo_bar_type"));
+
+        jdbi.useHandle(h -> {});
+        assertThat(added).containsExactly("foo_bar_type");
+
+        jdbi.configure(PostgresTypes.class, pt -> pt.registerCustomType(BazPGType.class, "baz_type"));
+        jdbi.useHandle(h -> {});
+        jdbi.useHandle(h -> {});
+        assertThat(added).containsExactly("foo_bar_type", "baz_type");
+    }
+
+    public static class BazPGType extends PGobject {}
+
+    private Connection connection() {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class, PGConnection.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "unwrap":
+                        return proxy;
+                    case "addDataType":
+                        added.add((String) args[0]);
+                        return null;
+                    case "getAutoCommit":
+                        return true;
+                    default:
+                        return method.getReturnType() == boolean.class ? Boolean.FALSE : null;
+                }
+            });
+    }
+}
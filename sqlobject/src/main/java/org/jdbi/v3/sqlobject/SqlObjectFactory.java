@@ -36,6 +36,7 @@ import org.jdbi.v3.core.extension.ExtensionMethod;
 import org.jdbi.v3.core.extension.HandleSupplier;
 import org.jdbi.v3.sqlobject.config.Configurer;
 import org.jdbi.v3.sqlobject.config.ConfiguringAnnotation;
+import org.jdbi.v3.sqlobject.internal.ConfigPreservingHandler;
 
 import static java.util.Collections.synchronizedMap;
 
@@ -166,23 +167,21 @@ public class SqlObjectFactory implements ExtensionFactory {
                                                       ConfigRegistry instanceConfig,
                                                       Map<Method, Handler> handlers,
                                                       HandleSupplier handle) {
-        Map<Method, ConfigRegistry> methodConfigs = new ConcurrentHashMap<>();
+        Map<Method, MethodInvoker> invokers = new ConcurrentHashMap<>();
 
-        Function<Method, ConfigRegistry> createConfigForMethod = method -> {
+        Function<Method, MethodInvoker> createInvoker = method -> {
             ConfigRegistry config = instanceConfig.createCopy();
             forEachConfigurer(method, (configurer, annotation) -> configurer.configureForMethod(config, annotation, sqlObjectType, method));
-            return config;
+            return new MethodInvoker(new ExtensionMethod(sqlObjectType, method), handlers.get(method), config);
         };
 
         return (proxy, method, args) -> {
-            ConfigRegistry methodConfig = methodConfigs.computeIfAbsent(method, createConfigForMethod).createCopy();
-            Handler handler = handlers.get(method);
-
-            return handle.invokeInContext(
-                new ExtensionMethod(sqlObjectType, method),
-                methodConfig,
-                () -> handler.invoke(proxy, args == null ? NO_ARGS : args, handle)
-            );
+            // get first: on Java 8, computeIfAbsent locks even if the key is present
+            MethodInvoker invoker = invokers.get(method);
+            if (invoker == null) {
+                invoker = invokers.computeIfAbsent(method, createInvoker);
+            }
+            return invoker.invoke(proxy, args == null ? NO_ARGS : args, handle);
         };
     }
 
@@ -206,4 +205,29 @@ public class SqlObjectFactory implements ExtensionFactory {
             }
         });
     }
+
+    /**
+     * Everything needed to invoke one method of a SQL Object instance, resolved on its first invocation.
+     */
+    private static class MethodInvoker {
+        private final ExtensionMethod extensionMethod;
+        private final Handler handler;
+        private final ConfigRegistry config;
+        private final boolean copyConfig;
+
+        MethodInvoker(ExtensionMethod extensionMethod, Handler handler, ConfigRegistry config) {
+            this.extensionMethod = extensionMethod;
+            this.handler = handler;
+            this.config = config;
+            // a handler that may change the handle's configuration gets a fresh copy on every call
+            this.copyConfig = !(handler instanceof ConfigPreservingHandler);
+        }
+
+        Object invoke(Object proxy, Object[] args, HandleSupplier handle) throws Exception {
+            return handle.invokeInContext(
+                extensionMethod,
+                copyConfig ? config.createCopy() : config,
+                () -> handler.invoke(proxy, args, handle));
+        }
+    }
 }
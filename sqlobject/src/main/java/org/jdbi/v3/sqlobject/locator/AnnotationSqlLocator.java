@@ -14,17 +14,25 @@
 package org.jdbi.v3.sqlobject.locator;
 
 import java.lang.reflect.Method;
+import java.util.Optional;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.config.JdbiCache;
+import org.jdbi.v3.core.config.JdbiCaches;
 import org.jdbi.v3.sqlobject.internal.SqlAnnotations;
 
 /**
  * Locates SQL on the SQL method annotations like <code>@SqlQuery("foo")</code>. This is the default SqlLocator.
+ * <p>
+ * Annotation values are cached per method in the {@link JdbiCaches} cache named after this class.
  */
 public class AnnotationSqlLocator implements SqlLocator {
+    private static final JdbiCache<Method, Optional<String>> SQL_CACHE =
+        JdbiCaches.declare(AnnotationSqlLocator.class.getName(), SqlAnnotations::getAnnotationValue);
+
     @Override
     public String locate(Class<?> sqlObjectType, Method method, ConfigRegistry config) {
-        return SqlAnnotations.getAnnotationValue(method)
+        return SQL_CACHE.get(method, config)
             .orElseThrow(() -> new IllegalStateException("Sql annotation missing query"));
     }
 }
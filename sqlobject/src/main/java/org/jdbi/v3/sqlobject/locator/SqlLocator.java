@@ -19,6 +19,11 @@ import org.jdbi.v3.core.config.ConfigRegistry;
 
 /**
  * Locates SQL for jdbi SQL Object methods.
+ * <p>
+ * Each SQL Object instance locates the SQL of each of its methods once, so a locator should return the same SQL
+ * for a given SQL Object type, method and configuration. To vary SQL per statement, use a
+ * {@link org.jdbi.v3.core.statement.TemplateEngine} instead.
+ * </p>
  */
 @FunctionalInterface
 public interface SqlLocator {
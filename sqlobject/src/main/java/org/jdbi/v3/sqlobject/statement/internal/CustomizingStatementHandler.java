@@ -26,6 +26,7 @@ import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.extension.HandleSupplier;
 import org.jdbi.v3.core.generic.GenericTypes;
 import org.jdbi.v3.core.mapper.RowMapper;
@@ -33,12 +34,13 @@ import org.jdbi.v3.core.result.RowReducer;
 import org.jdbi.v3.core.statement.SqlStatement;
 import org.jdbi.v3.core.statement.UnableToCreateStatementException;
 import org.jdbi.v3.core.statement.UnableToExecuteStatementException;
-import org.jdbi.v3.sqlobject.Handler;
 import org.jdbi.v3.sqlobject.SqlObjects;
 import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizer;
 import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizerFactory;
 import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizingAnnotation;
 import org.jdbi.v3.sqlobject.customizer.SqlStatementParameterCustomizer;
+import org.jdbi.v3.sqlobject.internal.ConfigPreservingHandler;
+import org.jdbi.v3.sqlobject.locator.SqlLocator;
 import org.jdbi.v3.sqlobject.statement.ParameterCustomizerFactory;
 import org.jdbi.v3.sqlobject.statement.UseRowMapper;
 import org.jdbi.v3.sqlobject.statement.UseRowReducer;
@@ -48,10 +50,11 @@ import static java.util.stream.Stream.concat;
 /**
  * Base handler for annotations' implementation classes.
  */
-abstract class CustomizingStatementHandler<StatementType extends SqlStatement<StatementType>> implements Handler {
+abstract class CustomizingStatementHandler<StatementType extends SqlStatement<StatementType>> implements ConfigPreservingHandler {
     private final List<BoundCustomizer> statementCustomizers;
     private final Class<?> sqlObjectType;
     private final Method method;
+    private final IdentityMemo<String> locatedSql = new IdentityMemo<>();
 
     CustomizingStatementHandler(Class<?> type, Method method) {
         this.sqlObjectType = type;
@@ -121,9 +124,17 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
                                                        Method method,
                                                        Parameter parameter,
                                                        Integer i) {
-        return (stmt, args) -> getDefaultParameterCustomizerFactory(stmt)
-                .createForParameter(type, method, parameter, i, getParameterType(parameter))
-                .apply(stmt, args[i]);
+        final Type parameterType = getParameterType(parameter);
+        // the customizer only depends on the factory, which is shared by every copy of the configuration
+        final IdentityMemo<SqlStatementParameterCustomizer> customizers = new IdentityMemo<>();
+        return (stmt, args) -> {
+            ParameterCustomizerFactory factory = getDefaultParameterCustomizerFactory(stmt);
+            SqlStatementParameterCustomizer customizer = customizers.get(factory, null);
+            if (customizer == null) {
+                customizer = customizers.put(factory, null, factory.createForParameter(type, method, parameter, i, parameterType));
+            }
+            customizer.apply(stmt, args[i]);
+        };
     }
 
     Type getParameterType(Parameter parameter) {
@@ -157,20 +168,27 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
     }
 
     void applyCustomizers(final StatementType stmt, Object[] args) {
-        statementCustomizers.forEach(b -> {
+        for (BoundCustomizer b : statementCustomizers) {
             try {
                 b.apply(stmt, args);
             } catch (SQLException e) {
                 throw new UnableToExecuteStatementException(e, stmt.getContext());
             }
-        });
+        }
     }
 
     abstract void configureReturner(StatementType stmt, SqlObjectStatementConfiguration cfg);
     abstract StatementType createStatement(Handle handle, String locatedSql);
 
     String locateSql(final Handle h) {
-        return h.getConfig(SqlObjects.class).getSqlLocator().locate(sqlObjectType, method, h.getConfig());
+        // each SQL Object instance has its own configuration, so the SQL is located once per instance
+        final ConfigRegistry config = h.getConfig();
+        final SqlLocator locator = config.get(SqlObjects.class).getSqlLocator();
+        final String sql = locatedSql.get(locator, config);
+        if (sql != null) {
+            return sql;
+        }
+        return locatedSql.put(locator, config, locator.locate(sqlObjectType, method, config));
     }
 
     Method getMethod() {
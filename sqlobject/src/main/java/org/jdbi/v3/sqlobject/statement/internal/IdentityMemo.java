@@ -0,0 +1,50 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.sqlobject.statement.internal;
+
+/**
+ * Remembers the value computed for the most recent pair of keys, compared by identity. Suits values derived from
+ * configuration objects, which are replaced rather than changed when someone reconfigures.
+ */
+final class IdentityMemo<V> {
+    private volatile Entry<V> last;
+
+    /**
+     * @param first the first key
+     * @param second the second key, or null if one key is enough
+     * @return the value remembered for the keys, or null if they are not the most recent ones
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    V get(Object first, Object second) {
+        Entry<V> entry = last;
+        return entry != null && entry.first == first && entry.second == second ? entry.value : null;
+    }
+
+    V put(Object first, Object second, V value) {
+        last = new Entry<>(first, second, value);
+        return value;
+    }
+
+    private static final class Entry<V> {
+        private final Object first;
+        private final Object second;
+        private final V value;
+
+        Entry(Object first, Object second, V value) {
+            this.first = first;
+            this.second = second;
+            this.value = value;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import org.jdbi.v3.core.Something;
 import org.jdbi.v3.core.extension.ExtensionMethod;
 import org.jdbi.v3.core.mapper.SomethingMapper;
 import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.jdbi.v3.core.statement.SqlStatements;
 import org.jdbi.v3.sqlobject.customizer.Bind;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
@@ -51,6 +52,25 @@ public class TestDefaultMethods {
         assertThat(dao.insertAndReturn(123, "fake").getId()).isEqualTo(-6);
     }
 
+    @Test
+    public void testConfigChangesDoNotOutliveCall() {
+        Defining dao = dbRule.getJdbi().onDemand(Defining.class);
+        assertThat(dao.defineAndGetPrevious("first")).isNull();
+        assertThat(dao.defineAndGetPrevious("second")).isNull();
+        assertThat(dao.select()).isEqualTo(1);
+    }
+
+    public interface Defining extends SqlObject {
+        @SqlQuery("select 1")
+        int select();
+
+        default Object defineAndGetPrevious(String value) {
+            Object previous = getHandle().getConfig(SqlStatements.class).getAttribute("key");
+            getHandle().define("key", value);
+            return previous;
+        }
+    }
+
     private interface Spiffy {
         @SqlQuery("select id, name from something where id = :id")
         @UseRowMapper(SomethingMapper.class)
@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.sqlobject.locator;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.jdbi.v3.sqlobject.SqlObjects;
+import org.jdbi.v3.sqlobject.statement.BindParameterCustomizerFactory;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestLocatedSqlReuse {
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule().withSomething().withPlugin(new SqlObjectPlugin());
+
+    private Jdbi jdbi;
+    private final AtomicInteger located = new AtomicInteger();
+    private final AtomicInteger customizersCreated = new AtomicInteger();
+
+    @Before
+    public void setUp() {
+        jdbi = dbRule.getJdbi();
+        jdbi.useHandle(h -> h.execute("insert into something (id, name) values (1, 'Alice')"));
+
+        AnnotationSqlLocator annotations = new AnnotationSqlLocator();
+        BindParameterCustomizerFactory binders = new BindParameterCustomizerFactory();
+        jdbi.getConfig(SqlObjects.class)
+            .setSqlLocator((type, method, config) -> {
+                located.incrementAndGet();
+                return annotations.locate(type, method, config);
+            })
+            .setDefaultParameterCustomizerFactory((type, method, param, index, paramType) -> {
+                customizersCreated.incrementAndGet();
+                return binders.createForParameter(type, method, param, index, paramType);
+            });
+    }
+
+    @Test
+    public void testAttachedSqlObjectLocatesOnce() {
+        try (Handle h = jdbi.open()) {
+            Dao dao = h.attach(Dao.class);
+            for (int i = 0; i < 3; i++) {
+                assertThat(dao.findName(1)).isEqualTo("Alice");
+            }
+        }
+
+        assertThat(located).hasValue(1);
+        assertThat(customizersCreated).hasValue(1);
+    }
+
+    @Test
+    public void testEachInstanceLocatesAgain() {
+        Dao dao = jdbi.onDemand(Dao.class);
+        for (int i = 0; i < 3; i++) {
+            assertThat(dao.findName(1)).isEqualTo("Alice");
+        }
+
+        assertThat(located).hasValue(3);
+        assertThat(customizersCreated).hasValue(1);
+    }
+
+    @Test
+    public void testNewLocatorIsUsed() {
+        try (Handle h = jdbi.open()) {
+            assertThat(h.attach(Dao.class).findName(1)).isEqualTo("Alice");
+
+            h.getConfig(SqlObjects.class).setSqlLocator((type, method, config) -> "select 'Bob' from something where id = :id");
+            assertThat(h.attach(Dao.class).findName(1)).isEqualTo("Bob");
+        }
+    }
+
+    public interface Dao {
+        @SqlQuery("select name from something where id = :id")
+        String findName(int id);
+    }
+}
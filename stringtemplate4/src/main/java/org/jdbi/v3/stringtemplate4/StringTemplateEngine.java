@@ -13,6 +13,8 @@
  */
 package org.jdbi.v3.stringtemplate4;
 
+import org.jdbi.v3.core.config.JdbiCache;
+import org.jdbi.v3.core.config.JdbiCaches;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.core.statement.TemplateEngine;
 import org.stringtemplate.v4.ST;
@@ -20,11 +22,20 @@ import org.stringtemplate.v4.STGroup;
 
 /**
  * Rewrites a StringTemplate template, using the attributes on the {@link StatementContext} as template parameters.
+ * <p>
+ * Compiled templates are cached by template source and shared by every handle of a {@link org.jdbi.v3.core.Jdbi},
+ * in the {@link org.jdbi.v3.core.config.JdbiCaches} cache named after this class.
+ * Each render binds the attributes to a fresh copy of the cached template, so the template is only lexed and
+ * compiled once.
  */
 public class StringTemplateEngine implements TemplateEngine {
+    // prototypes must never have attributes added: ST#add defines formal arguments on the shared CompiledST
+    private static final JdbiCache<String, ST> TEMPLATE_CACHE =
+        JdbiCaches.declare(StringTemplateEngine.class.getName(), sql -> new ST(new STGroup(), sql));
+
     @Override
     public String render(String sql, StatementContext ctx) {
-        ST template = new ST(new STGroup(), sql);
+        ST template = new ST(TEMPLATE_CACHE.get(sql, ctx));
 
         ctx.getAttributes().forEach(template::add);
 
@@ -0,0 +1,68 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.stringtemplate4;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.rule.H2DatabaseRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestStringTemplateEngine {
+    private static final String SQL = "select <a><if(b)> + <b><endif> from values(1)";
+
+    @Rule
+    public H2DatabaseRule dbRule = new H2DatabaseRule();
+
+    @Before
+    public void setUp() {
+        dbRule.getJdbi().setTemplateEngine(new StringTemplateEngine());
+        dbRule.getSharedHandle().setTemplateEngine(new StringTemplateEngine());
+    }
+
+    @Test
+    public void testCachedTemplateDoesNotRetainAttributes() {
+        Handle h = dbRule.getSharedHandle();
+
+        assertThat(h.createQuery(SQL).define("a", 1).define("b", 2).mapTo(int.class).one()).isEqualTo(3);
+        assertThat(h.createQuery(SQL).define("a", 5).mapTo(int.class).one()).isEqualTo(5);
+        assertThat(h.createQuery(SQL).define("b", 7).define("a", 3).mapTo(int.class).one()).isEqualTo(10);
+    }
+
+    @Test
+    public void testConcurrentRendersOfSameTemplate() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> results = IntStream.range(0, 200)
+                .mapToObj(i -> executor.submit(() -> dbRule.getJdbi().withHandle(h ->
+                    h.createQuery(SQL).define("a", i).define("b", i).mapTo(int.class).one())))
+                .collect(Collectors.toList());
+
+            for (int i = 0; i < results.size(); i++) {
+                assertThat(results.get(i).get()).isEqualTo(2 * i);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}